@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceRegistration;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor.Behaviour;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concurrent {@link DiagStatusServiceImpl#register(String)}ed services reporting while others query the
+ * {@link ServiceStatusSummary}, as well as serialization of the summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DiagStatusBenchmark {
+    @Param({ "10", "1000" })
+    public int services;
+
+    private DiagStatusServiceImpl diagStatusService;
+    private List<ServiceRegistration> registrations;
+    private ServiceStatusSummary summary;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        diagStatusService = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of());
+        registrations = new ArrayList<>(services);
+        for (int i = 0; i < services; i++) {
+            var name = "service-" + i;
+            var reg = diagStatusService.register(name);
+            reg.report(new ServiceDescriptor(name, ServiceState.OPERATIONAL, "benchmark"));
+            registrations.add(reg);
+        }
+        summary = diagStatusService.getServiceStatusSummary();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registrations.forEach(ServiceRegistration::close);
+        diagStatusService.close();
+    }
+
+    /**
+     * Services reporting, concurrently with {@link #mixedSummary()}.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void mixedReport() {
+        var index = ThreadLocalRandom.current().nextInt(services);
+        registrations.get(index).report(new ServiceDescriptor("service-" + index, ServiceState.OPERATIONAL,
+            "benchmark"));
+    }
+
+    /**
+     * Summaries being queried, concurrently with {@link #mixedReport()}.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public ServiceStatusSummary mixedSummary() {
+        return diagStatusService.getServiceStatusSummary();
+    }
+
+    /**
+     * Serialization of a summary of all services to JSON.
+     */
+    @Benchmark
+    public String summaryToJSON() {
+        return summary.toJSON();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Submission throughput of the pools created by {@link Executors}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExecutorsBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorsBenchmark.class);
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "fixed", "instrumented", "virtual" })
+    public String kind;
+
+    private ListeningExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = switch (kind) {
+            case "fixed" -> Executors.newFixedThreadPool(4, "bench-fixed", LOG);
+            case "instrumented" -> Executors.newInstrumentedFixedThreadPool(4, "bench-instrumented", LOG);
+            case "virtual" -> Executors.newListeningVirtualThreadPerTaskExecutor("bench-virtual", LOG);
+            default -> throw new IllegalArgumentException("Unknown executor kind " + kind);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Executors.shutdownAndAwaitTermination(executor);
+    }
+
+    /**
+     * Submit a single no-op task and wait for it, i.e. measure the round trip.
+     */
+    @Benchmark
+    public Object submitAndWait() throws InterruptedException, ExecutionException {
+        return executor.submit(() -> Boolean.TRUE).get();
+    }
+
+    /**
+     * Submit a batch of no-op tasks and wait for all of them, i.e. measure throughput with a non-empty queue.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object submitBatchAndWait() throws InterruptedException, ExecutionException {
+        var futures = new ArrayList<ListenableFuture<Boolean>>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures.add(executor.submit(() -> Boolean.TRUE));
+        }
+        return Futures.allAsList(futures).get();
+    }
+}
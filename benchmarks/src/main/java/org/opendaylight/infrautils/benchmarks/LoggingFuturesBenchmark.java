@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.infrautils.utils.concurrent.LoggingFutures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-future overhead of {@link LoggingFutures#addErrorLogging(com.google.common.util.concurrent.ListenableFuture,
+ * Logger, String)} and its {@link java.util.concurrent.Future} sibling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingFuturesBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(LoggingFuturesBenchmark.class);
+
+    /**
+     * Baseline: creating a future and completing it, without any logging.
+     */
+    @Benchmark
+    public Object baseline() {
+        var future = SettableFuture.<Boolean>create();
+        future.set(Boolean.TRUE);
+        return future;
+    }
+
+    /**
+     * Adding logging to a pending ListenableFuture, which then completes.
+     */
+    @Benchmark
+    public Object listenableFuture() {
+        var future = SettableFuture.<Boolean>create();
+        var ret = LoggingFutures.addErrorLogging(future, LOG, "benchmark");
+        future.set(Boolean.TRUE);
+        return ret;
+    }
+
+    /**
+     * Adding logging to an already-completed ListenableFuture.
+     */
+    @Benchmark
+    public Object completedListenableFuture() {
+        return LoggingFutures.addErrorLogging(Futures.immediateFuture(Boolean.TRUE), LOG, "benchmark");
+    }
+
+    /**
+     * Adding logging to a pending CompletableFuture, which then completes.
+     */
+    @Benchmark
+    public Object completableFuture() {
+        var future = new CompletableFuture<Boolean>();
+        var ret = LoggingFutures.addErrorLogging(future, LOG, "benchmark");
+        future.complete(Boolean.TRUE);
+        return ret;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.benchmarks;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.infrautils.utils.concurrent.ThreadFactoryProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cost of creating threads through a {@link ThreadFactoryProvider}-built factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThreadFactoryProviderBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadFactoryProviderBenchmark.class);
+    private static final Runnable NOOP = () -> { };
+
+    @Param({ "false", "true" })
+    public boolean virtual;
+
+    private ThreadFactory factory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        factory = ThreadFactoryProvider.builder().namePrefix("bench").logger(LOG).virtual(virtual).build().get();
+    }
+
+    /**
+     * Create, but do not start, a thread.
+     */
+    @Benchmark
+    public Thread newThread() {
+        return factory.newThread(NOOP);
+    }
+
+    /**
+     * Create, start and join a thread.
+     */
+    @Benchmark
+    public Thread startAndJoin() throws InterruptedException {
+        var thread = factory.newThread(NOOP);
+        thread.start();
+        thread.join();
+        return thread;
+    }
+}
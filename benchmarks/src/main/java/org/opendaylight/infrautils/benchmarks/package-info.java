@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * JMH microbenchmarks of infrautils hot paths. Build this module and run
+ * {@code java -jar target/benchmarks.jar -rf json -rff results.json} to obtain machine-readable results, which can be
+ * compared between releases.
+ */
+package org.opendaylight.infrautils.benchmarks;
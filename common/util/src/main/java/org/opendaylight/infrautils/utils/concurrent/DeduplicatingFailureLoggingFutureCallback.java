@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import org.slf4j.Logger;
+
+/**
+ * Failure logging future callback with a single String message, which logs repeated identical failures only as
+ * a periodic summary. See {@link FailureDeduplicator}.
+ */
+// package-local not public (for the time being)
+final class DeduplicatingFailureLoggingFutureCallback<V> extends FailureLoggingFutureCallbackBase<V> {
+    private final String message;
+
+    DeduplicatingFailureLoggingFutureCallback(Logger logger, String message) {
+        super(logger);
+        this.message = requireNonNull(message, "message is null");
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+        if (throwable instanceof CancellationException) {
+            // same as FailureMessageLoggingFutureCallback
+            getLogger().debug("Future (eventually) failed with CancellationException: {}", message, throwable);
+        } else {
+            FailureDeduplicator.INSTANCE.logFailure(getLogger(), message, throwable);
+        }
+    }
+}
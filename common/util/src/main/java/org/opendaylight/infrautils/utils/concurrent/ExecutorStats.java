@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lock-free recorder of {@link ExecutorStatsMXBean} statistics. Counters are {@link LongAdder}s and atomics, so
+ * that recording from many worker threads does not introduce contention on the executor's hot path.
+ */
+// package-local not public (for the time being)
+final class ExecutorStats implements ExecutorStatsMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorStats.class);
+    // Same domain as org.opendaylight.infrautils.ready.spi.AbstractMXBean.BASE_JMX_PREFIX, which we cannot reach
+    private static final String JMX_PREFIX = "org.opendaylight.infrautils:type=ExecutorStats,name=";
+
+    private final String name;
+    private final BlockingQueue<?> queue;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+
+    private volatile @Nullable ObjectName objectName;
+
+    ExecutorStats(String name, BlockingQueue<?> queue) {
+        this.name = requireNonNull(name);
+        this.queue = requireNonNull(queue);
+    }
+
+    void registerMBean() {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            // Executors sharing a name prefix, e.g. one created to replace another which has not been shut down yet,
+            // are told apart by a sequence number
+            for (int seq = 1; ; seq++) {
+                var objName = ObjectName.getInstance(JMX_PREFIX + (seq == 1 ? name : name + "-" + seq));
+                try {
+                    server.registerMBean(this, objName);
+                } catch (InstanceAlreadyExistsException e) {
+                    LOG.debug("MBean {} already exists", objName, e);
+                    continue;
+                }
+                objectName = objName;
+                LOG.debug("MBean {} registered successfully", objName);
+                return;
+            }
+        } catch (JMException e) {
+            // Not fatal: the statistics are still reachable via InstrumentedExecutorService.getStats()
+            LOG.warn("Failed to register statistics MBean for executor {}", name, e);
+        }
+    }
+
+    void unregisterMBean() {
+        var objName = objectName;
+        if (objName != null) {
+            objectName = null;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objName);
+            } catch (JMException e) {
+                LOG.debug("Failed to unregister MBean {}", objName, e);
+            }
+        }
+    }
+
+    void taskSubmitted() {
+        submitted.increment();
+    }
+
+    void taskQueued() {
+        maxQueueDepth.accumulate(queue.size());
+    }
+
+    void taskRejected() {
+        rejected.increment();
+    }
+
+    void taskStarted(long queuedNanos) {
+        active.incrementAndGet();
+        queueTime.record(queuedNanos);
+    }
+
+    void taskCompleted(long executionNanos) {
+        active.decrementAndGet();
+        completed.increment();
+        executionTime.record(executionNanos);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return active.get();
+    }
+
+    @Override
+    public long getSubmittedTaskCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getAverageQueueTimeNanos() {
+        return queueTime.averageNanos();
+    }
+
+    @Override
+    public long getMaxQueueTimeNanos() {
+        return queueTime.maxNanos();
+    }
+
+    @Override
+    public long[] getQueueTimeHistogram() {
+        return queueTime.buckets();
+    }
+
+    @Override
+    public long getAverageExecutionTimeNanos() {
+        return executionTime.averageNanos();
+    }
+
+    @Override
+    public long getMaxExecutionTimeNanos() {
+        return executionTime.maxNanos();
+    }
+
+    @Override
+    public long[] getExecutionTimeHistogram() {
+        return executionTime.buckets();
+    }
+}
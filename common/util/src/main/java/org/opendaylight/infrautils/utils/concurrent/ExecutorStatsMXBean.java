@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+/**
+ * Statistics of an instrumented executor, as exposed over JMX. Instances are registered under
+ * {@code org.opendaylight.infrautils:type=ExecutorStats,name=<namePrefix>}, with a {@code -<n>} suffix appended to the
+ * name if another executor with the same prefix is already registered. They are unregistered when the executor is
+ * shut down, hence an executor which is never shut down keeps its bean registered.
+ *
+ * <p>Latency histograms have one bucket per power of two microseconds: bucket {@code 0} counts tasks which took less
+ * than 1&micro;s, bucket {@code i} counts tasks which took at least 2<sup>i-1</sup>&micro;s and less than
+ * 2<sup>i</sup>&micro;s, and the last bucket counts everything above that.
+ */
+public interface ExecutorStatsMXBean {
+    /**
+     * Return the name prefix of threads in this executor, which is also the {@code name} part of the bean's ObjectName,
+     * unless that had to be made unique.
+     *
+     * @return the name prefix
+     */
+    String getName();
+
+    /**
+     * Return the number of tasks currently waiting in the executor's queue.
+     *
+     * @return current queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Return the largest number of tasks which have been seen waiting in the executor's queue.
+     *
+     * @return largest observed queue depth
+     */
+    long getMaxQueueDepth();
+
+    /**
+     * Return the number of threads currently executing a task.
+     *
+     * @return number of active threads
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Return the number of tasks which have been submitted to this executor, including rejected ones.
+     *
+     * @return number of submitted tasks
+     */
+    long getSubmittedTaskCount();
+
+    /**
+     * Return the number of tasks which have completed execution, either normally or exceptionally.
+     *
+     * @return number of completed tasks
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * Return the number of tasks which were rejected because the executor was saturated or shut down.
+     *
+     * @return number of rejected tasks
+     */
+    long getRejectedTaskCount();
+
+    /**
+     * Return the average time tasks spent queued before starting execution, in nanoseconds.
+     *
+     * @return average queue time
+     */
+    long getAverageQueueTimeNanos();
+
+    /**
+     * Return the longest time a task spent queued before starting execution, in nanoseconds.
+     *
+     * @return maximum queue time
+     */
+    long getMaxQueueTimeNanos();
+
+    /**
+     * Return the histogram of times tasks spent queued before starting execution.
+     *
+     * @return queue time histogram
+     */
+    long[] getQueueTimeHistogram();
+
+    /**
+     * Return the average task execution time, in nanoseconds.
+     *
+     * @return average execution time
+     */
+    long getAverageExecutionTimeNanos();
+
+    /**
+     * Return the longest task execution time, in nanoseconds.
+     *
+     * @return maximum execution time
+     */
+    long getMaxExecutionTimeNanos();
+
+    /**
+     * Return the histogram of task execution times.
+     *
+     * @return execution time histogram
+     */
+    long[] getExecutionTimeHistogram();
+}
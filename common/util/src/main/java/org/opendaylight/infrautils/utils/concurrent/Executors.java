@@ -10,9 +10,16 @@ package org.opendaylight.infrautils.utils.concurrent;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.ListeningScheduledExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import org.slf4j.Logger;
 
 /**
@@ -67,11 +74,120 @@ public final class Executors {
             createThreadFactory(namePrefix, logger)));
     }
 
+    /**
+     * Creates an executor which starts a new virtual thread for each task. The threads are named using the provided
+     * prefix and log uncaught exceptions with the specified {@link Logger}.
+     *
+     * <p>This is suitable for large numbers of mostly-blocking tasks, as a blocked virtual thread does not occupy an
+     * OS thread. It is not suitable for CPU-bound tasks or for tasks which hold monitors while blocking.
+     *
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created virtual thread per task Executor
+     */
+    public static ListeningExecutorService newListeningVirtualThreadPerTaskExecutor(String namePrefix,
+            Logger logger) {
+        return MoreExecutors.listeningDecorator(java.util.concurrent.Executors.newThreadPerTaskExecutor(
+            ThreadFactoryProvider.builder().namePrefix(namePrefix).logger(logger).virtual(true).build().get()));
+    }
+
+    /**
+     * Creates an instrumented single thread executor. This is the same as
+     * {@link #newListeningSingleThreadExecutor(String, Logger)}, except the returned executor keeps track of its
+     * statistics and publishes them as an {@link ExecutorStatsMXBean}.
+     *
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created single-threaded Executor
+     */
+    public static InstrumentedExecutorService newInstrumentedSingleThreadExecutor(String namePrefix, Logger logger) {
+        return newInstrumentedThreadPool(1, 1, 0L, new LinkedBlockingQueue<>(), new AbortPolicy(),
+            UnaryOperator.identity(), namePrefix, logger);
+    }
+
+    /**
+     * Creates an instrumented fixed thread pool. This is the same as {@link #newFixedThreadPool(int, String, Logger)},
+     * except the returned executor keeps track of its statistics and publishes them as an {@link ExecutorStatsMXBean}.
+     *
+     * @param size number of threads in the pool
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created thread pool
+     */
+    public static InstrumentedExecutorService newInstrumentedFixedThreadPool(int size, String namePrefix,
+            Logger logger) {
+        return newInstrumentedThreadPool(size, size, 0L, new LinkedBlockingQueue<>(), new AbortPolicy(),
+            UnaryOperator.identity(), namePrefix, logger);
+    }
+
+    /**
+     * Creates an instrumented cached thread pool. This is the same as
+     * {@link #newListeningCachedThreadPool(String, Logger)}, except the returned executor keeps track of its
+     * statistics and publishes them as an {@link ExecutorStatsMXBean}.
+     *
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created thread pool
+     */
+    public static InstrumentedExecutorService newInstrumentedCachedThreadPool(String namePrefix, Logger logger) {
+        return newInstrumentedThreadPool(0, Integer.MAX_VALUE, 60L, new SynchronousQueue<>(),
+            new AbortPolicy(), UnaryOperator.identity(), namePrefix, logger);
+    }
+
+    /**
+     * Creates a fixed thread pool with a bounded queue. Unlike {@link #newFixedThreadPool(int, String, Logger)}, which
+     * queues an unlimited number of tasks, this executor applies the specified {@link SaturationPolicy} once
+     * {@code queueCapacity} tasks are waiting, pushing back on producers instead of growing the heap.
+     *
+     * @param size number of threads in the pool
+     * @param queueCapacity maximum number of tasks waiting for execution
+     * @param policy what to do when the queue is full
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created thread pool
+     * @throws IllegalArgumentException if {@code size} or {@code queueCapacity} is not positive
+     */
+    public static ListeningExecutorService newBoundedFixedThreadPool(int size, int queueCapacity,
+            SaturationPolicy policy, String namePrefix, Logger logger) {
+        return policy.decorate(MoreExecutors.listeningDecorator(new ThreadPoolExecutor(size, size, 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), createThreadFactory(namePrefix, logger),
+            policy.handler())));
+    }
+
+    /**
+     * Creates an instrumented fixed thread pool with a bounded queue. This is the same as
+     * {@link #newBoundedFixedThreadPool(int, int, SaturationPolicy, String, Logger)}, except the returned executor
+     * keeps track of its statistics and publishes them as an {@link ExecutorStatsMXBean}. Each time the queue is
+     * found full is counted as a rejection, regardless of how the policy resolves it.
+     *
+     * @param size number of threads in the pool
+     * @param queueCapacity maximum number of tasks waiting for execution
+     * @param policy what to do when the queue is full
+     * @param namePrefix Prefix for this executor thread names
+     * @param logger Logger used to log uncaught exceptions
+     * @return the newly created thread pool
+     * @throws IllegalArgumentException if {@code size} or {@code queueCapacity} is not positive
+     */
+    public static InstrumentedExecutorService newInstrumentedBoundedFixedThreadPool(int size, int queueCapacity,
+            SaturationPolicy policy, String namePrefix, Logger logger) {
+        return newInstrumentedThreadPool(size, size, 0L, new LinkedBlockingQueue<>(queueCapacity),
+            policy.handler(), policy::decorate, namePrefix, logger);
+    }
+
     public static void shutdownAndAwaitTermination(ExecutorService executorService) {
         MoreExecutors.shutdownAndAwaitTermination(executorService, DEFAULT_TIMEOUT_FOR_SHUTDOWN,
                                                   DEFAULT_TIMEOUT_UNIT_FOR_SHUTDOWN);
     }
 
+    private static InstrumentedExecutorService newInstrumentedThreadPool(int corePoolSize, int maximumPoolSize,
+            long keepAliveSeconds, BlockingQueue<Runnable> workQueue, RejectedExecutionHandler handler,
+            UnaryOperator<ListeningExecutorService> decorator, String namePrefix, Logger logger) {
+        var executor = InstrumentedThreadPoolExecutor.create(namePrefix, corePoolSize, maximumPoolSize,
+            keepAliveSeconds, TimeUnit.SECONDS, workQueue, createThreadFactory(namePrefix, logger), handler);
+        return new InstrumentedListeningExecutorService(decorator.apply(MoreExecutors.listeningDecorator(executor)),
+            executor.stats());
+    }
+
     private static ThreadFactory createThreadFactory(String namePrefix, Logger logger) {
         return ThreadFactoryProvider.builder().namePrefix(namePrefix).logger(logger).build().get();
     }
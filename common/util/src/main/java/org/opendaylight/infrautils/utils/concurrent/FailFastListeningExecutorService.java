@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ForwardingListeningExecutorService;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link ListeningExecutorService} which reports a {@link RejectedExecutionException} through a failed
+ * {@link ListenableFuture} instead of throwing it. See {@link SaturationPolicy#FAIL_FAST}.
+ */
+// package-local not public (for the time being)
+final class FailFastListeningExecutorService extends ForwardingListeningExecutorService {
+    private final ListeningExecutorService delegate;
+
+    FailFastListeningExecutorService(ListeningExecutorService delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    protected ListeningExecutorService delegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T> ListenableFuture<T> submit(Callable<T> task) {
+        try {
+            return super.submit(task);
+        } catch (RejectedExecutionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    @Override
+    public ListenableFuture<?> submit(Runnable task) {
+        try {
+            return super.submit(task);
+        } catch (RejectedExecutionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    @Override
+    public <T> ListenableFuture<T> submit(Runnable task, T result) {
+        try {
+            return super.submit(task, result);
+        } catch (RejectedExecutionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+}
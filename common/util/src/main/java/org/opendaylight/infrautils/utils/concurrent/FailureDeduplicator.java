@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups failures by logger, message and exception type. The first occurrence of each group is logged in full, any
+ * further occurrences are only counted and reported in a periodic summary. Groups which see no failures for a whole
+ * summary period are forgotten, so that the next failure is logged in full again.
+ *
+ * <p>The summary thread only exists while there are groups to summarize, and the statistics MBean replaces any
+ * registered by a previous instance of this class, for example one loaded before a bundle refresh. Neither of them
+ * therefore keeps a stale class loader reachable.
+ */
+// package-local not public (for the time being)
+final class FailureDeduplicator implements FailureLogStatsMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(FailureDeduplicator.class);
+    private static final long SUMMARY_INTERVAL_SECONDS = 10;
+    // Beyond this many distinct failures we stop deduplicating and log everything, so that memory stays bounded
+    private static final int MAX_TRACKED_FAILURES = 1024;
+
+    static final FailureDeduplicator INSTANCE = new FailureDeduplicator();
+
+    private final ConcurrentHashMap<Key, Group> groups = new ConcurrentHashMap<>();
+    private final LongAdder totalSuppressed = new LongAdder();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private FailureDeduplicator() {
+        scheduler = new ScheduledThreadPoolExecutor(1,
+            ThreadFactoryProvider.builder().namePrefix("infrautils-failure-summary").logger(LOG).build().get());
+        scheduler.setKeepAliveTime(SUMMARY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        registerMBean();
+    }
+
+    private void registerMBean() {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            var objectName = ObjectName.getInstance(
+                "org.opendaylight.infrautils:type=FailureLogStats,name=LoggingFutures");
+            try {
+                server.registerMBean(this, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                LOG.debug("Replacing stale failure logging statistics MBean", e);
+                server.unregisterMBean(objectName);
+                server.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Failed to register failure logging statistics MBean", e);
+        }
+    }
+
+    void logFailure(Logger logger, String message, Throwable throwable) {
+        var key = new Key(logger.getName(), message, throwable.getClass());
+        // Counting happens under the mapping's lock, so that it cannot race with summarize() forgetting the group
+        var created = new Group(logger);
+        var group = groups.compute(key, (unused, existing) -> {
+            if (existing != null) {
+                existing.suppress();
+                return existing;
+            }
+            return groups.size() < MAX_TRACKED_FAILURES ? created : null;
+        });
+        if (group != null && group != created) {
+            return;
+        }
+
+        logger.error("Future (eventually) failed: {} (identical failures will be summarized every {}s)", message,
+            SUMMARY_INTERVAL_SECONDS, throwable);
+        if (group != null) {
+            scheduleIfIdle();
+        }
+    }
+
+    private void scheduleIfIdle() {
+        if (scheduled.compareAndSet(false, true)) {
+            schedule();
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void schedule() {
+        // The summary task never fails and is never cancelled, there is nothing to learn from its Future
+        scheduler.schedule(this::summarizeAndReschedule, SUMMARY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void summarizeAndReschedule() {
+        try {
+            summarize();
+        } catch (RuntimeException e) {
+            // Do not let a failure stop the summaries for good
+            LOG.warn("Failed to summarize failures", e);
+        }
+
+        if (!groups.isEmpty()) {
+            schedule();
+            return;
+        }
+        scheduled.set(false);
+        // Re-check to avoid losing a wake-up from a logFailure() racing with the flag being cleared
+        if (!groups.isEmpty()) {
+            scheduleIfIdle();
+        }
+    }
+
+    private void summarize() {
+        for (var key : groups.keySet()) {
+            var count = new long[1];
+            var group = groups.computeIfPresent(key, (unused, existing) -> {
+                count[0] = existing.pending.sumThenReset();
+                if (count[0] == 0) {
+                    // idle for a whole period, forget it
+                    return null;
+                }
+                existing.suppressed.add(count[0]);
+                totalSuppressed.add(count[0]);
+                return existing;
+            });
+            if (group != null) {
+                group.logger.error("Future (eventually) failed: {} ({} more times with {} in the last {}s)",
+                    key.message, count[0], key.type.getName(), SUMMARY_INTERVAL_SECONDS);
+            }
+        }
+    }
+
+    @Override
+    public int getDistinctFailureCount() {
+        return groups.size();
+    }
+
+    @Override
+    public long getTotalSuppressedFailureCount() {
+        return totalSuppressed.sum() + groups.values().stream().mapToLong(group -> group.pending.sum()).sum();
+    }
+
+    @Override
+    public ImmutableMap<String, Long> getSuppressedFailureCounts() {
+        var builder = ImmutableMap.<String, Long>builderWithExpectedSize(groups.size());
+        groups.forEach((key, group) -> builder.put(key.loggerName + ": " + key.message + " ("
+            + key.type.getSimpleName() + ")", group.suppressed.sum() + group.pending.sum()));
+        return builder.buildKeepingLast();
+    }
+
+    private record Key(String loggerName, String message, Class<?> type) {
+        Key {
+            requireNonNull(loggerName);
+            requireNonNull(message);
+            requireNonNull(type);
+        }
+    }
+
+    private static final class Group {
+        final Logger logger;
+        // failures suppressed since the last summary
+        final LongAdder pending = new LongAdder();
+        // failures suppressed and already summarized
+        final LongAdder suppressed = new LongAdder();
+
+        Group(Logger logger) {
+            this.logger = requireNonNull(logger);
+        }
+
+        void suppress() {
+            pending.increment();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import java.util.Map;
+
+/**
+ * Statistics of failures logged through the rate-limited methods of {@link LoggingFutures}, as exposed over JMX under
+ * {@code org.opendaylight.infrautils:type=FailureLogStats,name=LoggingFutures}.
+ */
+public interface FailureLogStatsMXBean {
+    /**
+     * Return the number of distinct failures currently being tracked. Failures are distinct if they differ in logger,
+     * message or exception type.
+     *
+     * @return number of distinct failures
+     */
+    int getDistinctFailureCount();
+
+    /**
+     * Return the total number of failures which have not been logged individually.
+     *
+     * @return number of suppressed failures
+     */
+    long getTotalSuppressedFailureCount();
+
+    /**
+     * Return the number of failures which have not been logged individually, for each distinct failure currently
+     * being tracked. Keys are formatted as {@code logger: message (ExceptionType)}.
+     *
+     * @return suppressed failure counts
+     */
+    Map<String, Long> getSuppressedFailureCounts();
+}
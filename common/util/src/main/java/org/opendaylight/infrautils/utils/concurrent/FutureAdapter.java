@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapts plain {@link Future}s to {@link ListenableFuture}s without parking a thread per future, as
+ * {@link com.google.common.util.concurrent.JdkFutureAdapters#listenInPoolThread(Future)} does.
+ *
+ * <ul>
+ *   <li>{@link ListenableFuture}s are returned as-is</li>
+ *   <li>{@link CompletionStage}s (including {@link java.util.concurrent.CompletableFuture}) are completed through a
+ *       callback, with no extra thread at all</li>
+ *   <li>opaque {@link Future}s are polled in batches by a single shared thread, which polls often while futures keep
+ *       completing and backs off exponentially while they do not</li>
+ * </ul>
+ *
+ * <p>The polling thread only exists while there are futures to poll: it exits once it has been idle for a while and is
+ * started again on demand, so that it does not outlive its bundle. A future which misbehaves while being polled fails
+ * its adapted future, without affecting any other.
+ */
+// package-local not public (for the time being)
+final class FutureAdapter {
+    private static final Logger LOG = LoggerFactory.getLogger(FutureAdapter.class);
+    private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long IDLE_SECONDS = 10;
+    private static final FutureAdapter INSTANCE = new FutureAdapter();
+
+    private final ConcurrentLinkedQueue<Pending<?>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    // Only accessed from the scheduler thread
+    private final ArrayList<Pending<?>> pending = new ArrayList<>();
+    private long delayNanos = MIN_DELAY_NANOS;
+
+    private FutureAdapter() {
+        scheduler = new ScheduledThreadPoolExecutor(1,
+            ThreadFactoryProvider.builder().namePrefix("infrautils-future-poller").logger(LOG).build().get());
+        scheduler.setKeepAliveTime(IDLE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+    }
+
+    @SuppressWarnings({ "unchecked", "FutureReturnValueIgnored" })
+    static <V> ListenableFuture<V> listen(Future<V> future) {
+        if (future instanceof ListenableFuture) {
+            return (ListenableFuture<V>) future;
+        }
+
+        var settable = SettableFuture.<V>create();
+        settable.addListener(() -> {
+            if (settable.isCancelled()) {
+                future.cancel(false);
+            }
+        }, MoreExecutors.directExecutor());
+
+        if (future.isDone()) {
+            complete(settable, future);
+        } else if (future instanceof CompletionStage) {
+            ((CompletionStage<V>) future).whenComplete((result, failure) -> complete(settable, result, failure));
+        } else {
+            INSTANCE.enqueue(new Pending<>(future, settable));
+        }
+        return settable;
+    }
+
+    private static <V> void complete(SettableFuture<V> settable, @Nullable V result, @Nullable Throwable failure) {
+        if (failure == null) {
+            settable.set(result);
+            return;
+        }
+
+        var cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+            : failure;
+        if (cause instanceof CancellationException) {
+            settable.cancel(false);
+        } else {
+            settable.setException(cause);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static <V> void complete(SettableFuture<V> settable, Future<V> future) {
+        try {
+            settable.set(Futures.getDone(future));
+        } catch (ExecutionException e) {
+            settable.setException(e.getCause());
+        } catch (CancellationException e) {
+            settable.cancel(false);
+        } catch (RuntimeException e) {
+            settable.setException(e);
+        }
+    }
+
+    private void enqueue(Pending<?> entry) {
+        incoming.add(entry);
+        scheduleIfIdle();
+    }
+
+    private void scheduleIfIdle() {
+        if (scheduled.compareAndSet(false, true)) {
+            schedule(MIN_DELAY_NANOS);
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void schedule(long nanos) {
+        // The polling task never fails and is never cancelled, there is nothing to learn from its Future
+        scheduler.schedule(this::poll, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void poll() {
+        var initial = pending.size();
+        var it = incoming.iterator();
+        while (it.hasNext()) {
+            pending.add(it.next());
+            it.remove();
+        }
+        var arrived = pending.size() != initial;
+
+        // Completed entries are removed in a single pass
+        var beforeCompletion = pending.size();
+        pending.removeIf(Pending::completeIfDone);
+        var completed = pending.size() != beforeCompletion;
+
+        if (pending.isEmpty()) {
+            delayNanos = MIN_DELAY_NANOS;
+            scheduled.set(false);
+            // Re-check to avoid losing a wake-up from an enqueue() racing with the flag being cleared
+            if (!incoming.isEmpty()) {
+                scheduleIfIdle();
+            }
+            return;
+        }
+
+        delayNanos = arrived || completed ? MIN_DELAY_NANOS : Math.min(delayNanos * 2, MAX_DELAY_NANOS);
+        schedule(delayNanos);
+    }
+
+    /**
+     * An opaque future waiting to be polled, together with the future to complete.
+     */
+    private record Pending<V>(Future<V> future, SettableFuture<V> settable) {
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        boolean completeIfDone() {
+            if (settable.isDone()) {
+                // cancelled by the user
+                return true;
+            }
+            try {
+                if (!future.isDone()) {
+                    return false;
+                }
+            } catch (RuntimeException e) {
+                LOG.debug("Future {} failed to report whether it is done", future, e);
+                settable.setException(e);
+                return true;
+            }
+            complete(settable, future);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+
+/**
+ * A {@link ListeningExecutorService} which keeps track of its queue, latency and rejection statistics. Instances are
+ * created by the {@code newInstrumented*} methods in {@link Executors}.
+ */
+public interface InstrumentedExecutorService extends ListeningExecutorService {
+    /**
+     * Return the statistics of this executor. The returned object is live, i.e. it reflects the current state of the
+     * executor on each access, and it is the same object which is registered with the platform MBean server.
+     *
+     * @return executor statistics
+     */
+    ExecutorStatsMXBean getStats();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ForwardingListeningExecutorService;
+import com.google.common.util.concurrent.ListeningExecutorService;
+
+/**
+ * {@link InstrumentedExecutorService} backed by a decorated {@link InstrumentedThreadPoolExecutor}.
+ */
+// package-local not public (for the time being)
+final class InstrumentedListeningExecutorService extends ForwardingListeningExecutorService
+        implements InstrumentedExecutorService {
+    private final ListeningExecutorService delegate;
+    private final ExecutorStats stats;
+
+    InstrumentedListeningExecutorService(ListeningExecutorService delegate, ExecutorStats stats) {
+        this.delegate = requireNonNull(delegate);
+        this.stats = requireNonNull(stats);
+    }
+
+    @Override
+    protected ListeningExecutorService delegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExecutorStatsMXBean getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ThreadPoolExecutor} which records {@link ExecutorStats}. Each task is wrapped in a {@link TimedTask}, which
+ * carries its submission timestamp, so that time spent queued can be told apart from time spent executing. Tasks
+ * record their own statistics, hence those run by a {@link RejectedExecutionHandler} in the submitting thread are
+ * accounted for as well.
+ *
+ * <p>The statistics MBean is unregistered as soon as the executor is shut down, without waiting for running tasks to
+ * finish.
+ */
+// package-local not public (for the time being)
+final class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+    private final ExecutorStats stats;
+
+    private InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+            BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory, RejectedExecutionHandler handler,
+            ExecutorStats stats) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, (task, executor) -> {
+            stats.taskRejected();
+            handler.rejectedExecution(task, executor);
+        });
+        this.stats = requireNonNull(stats);
+    }
+
+    static InstrumentedThreadPoolExecutor create(String name, int corePoolSize, int maximumPoolSize,
+            long keepAliveTime, TimeUnit unit, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+            RejectedExecutionHandler handler) {
+        var stats = new ExecutorStats(name, workQueue);
+        var executor = new InstrumentedThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit,
+            workQueue, threadFactory, requireNonNull(handler), stats);
+        stats.registerMBean();
+        return executor;
+    }
+
+    ExecutorStats stats() {
+        return stats;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        stats.taskSubmitted();
+        super.execute(new TimedTask(command, stats));
+        stats.taskQueued();
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        stats.unregisterMBean();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        var tasks = super.shutdownNow().stream()
+            .map(task -> task instanceof TimedTask timed ? timed.delegate : task)
+            .toList();
+        stats.unregisterMBean();
+        return tasks;
+    }
+
+    /**
+     * A task together with the timestamp needed to attribute its latency.
+     */
+    static final class TimedTask implements Runnable {
+        final Runnable delegate;
+        private final ExecutorStats stats;
+        private final long submitNanos;
+
+        TimedTask(Runnable delegate, ExecutorStats stats) {
+            this.delegate = requireNonNull(delegate);
+            this.stats = requireNonNull(stats);
+            submitNanos = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            var startNanos = System.nanoTime();
+            stats.taskStarted(startNanos - submitNanos);
+            try {
+                delegate.run();
+            } finally {
+                stats.taskCompleted(System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Runs asynchronous jobs such that jobs enqueued with the same key run strictly one after another, in the order in
+ * which they were enqueued, while jobs with different keys run in parallel on a bounded pool of worker threads.
+ *
+ * <p>A job is a {@link Callable} returning a {@link ListenableFuture}. The next job for a key is started only once the
+ * future returned by the previous one has completed. A job whose future fails may be retried a configurable number of
+ * times before the next job for the same key starts. Final failures are logged in the same way as
+ * {@link LoggingFutures#addErrorLogging(ListenableFuture, Logger, String, Object)} does, except for jobs failed by
+ * {@link #close()}, which are only logged at debug level.
+ *
+ * <p>Each key which has jobs pending costs a queue, not a thread, and keys without pending jobs cost nothing, hence
+ * this scales to a large number of keys, unlike a {@link Executors#newListeningSingleThreadExecutor(String, Logger)}
+ * per key.
+ *
+ * <p>Once the coordinator is closed, jobs which have not completed yet, as well as any enqueued afterwards, fail with
+ * a {@link RejectedExecutionException}.
+ *
+ * @param <K> key type
+ */
+public final class JobCoordinator<K> implements AutoCloseable {
+    private final ConcurrentHashMap<K, KeyQueue<K>> queues = new ConcurrentHashMap<>();
+    private final LongAdder pendingJobs = new LongAdder();
+    private final ListeningExecutorService executor;
+    private final Logger logger;
+
+    private volatile boolean closed;
+
+    /**
+     * Create a new coordinator.
+     *
+     * @param workers number of worker threads
+     * @param namePrefix Prefix for worker thread names
+     * @param logger Logger used to log job failures and uncaught exceptions
+     * @throws IllegalArgumentException if {@code workers} is not positive
+     */
+    public JobCoordinator(int workers, String namePrefix, Logger logger) {
+        checkArgument(workers > 0, "Invalid number of workers %s", workers);
+        this.logger = requireNonNull(logger);
+        executor = Executors.newFixedThreadPool(workers, namePrefix, logger);
+    }
+
+    /**
+     * Enqueue a job, which is not retried on failure.
+     *
+     * @param key key determining ordering
+     * @param job the job
+     * @return future completing with the result of the job
+     * @throws NullPointerException if any argument is null
+     */
+    public <V> ListenableFuture<V> enqueue(K key, Callable<? extends ListenableFuture<V>> job) {
+        return enqueue(key, job, 0);
+    }
+
+    /**
+     * Enqueue a job, which is retried up to {@code maxRetries} times if it fails.
+     *
+     * @param key key determining ordering
+     * @param job the job
+     * @param maxRetries maximum number of retries
+     * @return future completing with the result of the job
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code maxRetries} is negative
+     */
+    public <V> ListenableFuture<V> enqueue(K key, Callable<? extends ListenableFuture<V>> job, int maxRetries) {
+        checkArgument(maxRetries >= 0, "Invalid number of retries %s", maxRetries);
+        if (closed) {
+            return Futures.immediateFailedFuture(closedException());
+        }
+
+        var entry = new Job<>(job, maxRetries);
+        var result = entry.result;
+        Futures.addCallback(result, new FutureCallback<V>() {
+            @Override
+            public void onSuccess(@Nullable V value) {
+                // no-op
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                if (closed && cause instanceof RejectedExecutionException) {
+                    // we have failed it ourselves, there is no point in shouting about each and every job
+                    logger.debug("Job for key {} not completed before close", key, cause);
+                } else {
+                    logger.error("Future (eventually) failed: Job for key {} failed", key, cause);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+
+        pendingJobs.increment();
+        var started = new boolean[1];
+        var queue = queues.compute(requireNonNull(key), (k, existing) -> {
+            var ret = existing != null ? existing : new KeyQueue<>(k);
+            ret.jobs.add(entry);
+            started[0] = ret.pending.getAndIncrement() == 0;
+            return ret;
+        });
+        if (started[0]) {
+            submit(queue);
+        }
+        if (closed) {
+            // close() may have drained the queues before we added this job, make sure it is not stranded
+            fail(queue, closedException());
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of keys which currently have jobs pending.
+     *
+     * @return number of keys
+     */
+    public int getKeyCount() {
+        return queues.size();
+    }
+
+    /**
+     * Return the number of jobs which have been enqueued, but have not completed yet.
+     *
+     * @return number of jobs
+     */
+    public long getPendingJobCount() {
+        return pendingJobs.sum();
+    }
+
+    /**
+     * Close this coordinator. Jobs which have not completed yet, including those currently running, fail with a
+     * {@link RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Executors.shutdownAndAwaitTermination(executor);
+        var cause = closedException();
+        queues.values().forEach(queue -> fail(queue, cause));
+    }
+
+    private static RejectedExecutionException closedException() {
+        return new RejectedExecutionException("Coordinator has been closed");
+    }
+
+    private void submit(KeyQueue<K> queue) {
+        try {
+            executor.execute(() -> start(queue));
+        } catch (RejectedExecutionException e) {
+            // We have been shut down: fail all jobs, as nobody is going to run them
+            fail(queue, e);
+        }
+    }
+
+    private void fail(KeyQueue<K> queue, RejectedExecutionException cause) {
+        queues.remove(queue.key, queue);
+        // Atomic with respect to complete(), so that a job which is still running cannot pick up one we are failing
+        synchronized (queue) {
+            queue.closed = true;
+            for (var job = queue.jobs.poll(); job != null; job = queue.jobs.poll()) {
+                job.result.setException(cause);
+                pendingJobs.decrement();
+            }
+        }
+    }
+
+    private void start(KeyQueue<K> queue) {
+        final Job<?> job;
+        synchronized (queue) {
+            if (queue.closed) {
+                // failed by close()
+                return;
+            }
+            job = queue.jobs.peek();
+        }
+        if (job == null) {
+            return;
+        }
+        job.start(new FutureCallback<Object>() {
+            @Override
+            public void onSuccess(@Nullable Object result) {
+                complete(queue);
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                if (job.retriesLeft > 0) {
+                    job.retriesLeft--;
+                    logger.debug("Job for key {} failed, retrying ({} retries left)", queue.key, job.retriesLeft,
+                        cause);
+                    submit(queue);
+                } else {
+                    complete(queue);
+                }
+            }
+        });
+    }
+
+    private void complete(KeyQueue<K> queue) {
+        final Job<?> job;
+        synchronized (queue) {
+            if (queue.closed) {
+                // failed by close(), including the job which has just completed
+                return;
+            }
+            job = queue.jobs.poll();
+        }
+        if (job == null) {
+            return;
+        }
+        job.finish();
+        pendingJobs.decrement();
+        if (queue.pending.decrementAndGet() != 0) {
+            submit(queue);
+        } else {
+            // Remove the queue unless a job has been enqueued in the meantime, in which case it has also been submitted
+            queues.computeIfPresent(queue.key, (k, existing) -> existing.pending.get() == 0 ? null : existing);
+        }
+    }
+
+    /**
+     * Pending jobs for a single key. The head of {@link #jobs} is the job currently executing, {@link #pending} is the
+     * number of jobs in {@link #jobs} and is used to hand over execution from one job to the next. Once
+     * {@link #closed}, the jobs have been failed and nothing is started or completed anymore.
+     */
+    private static final class KeyQueue<K> {
+        final ConcurrentLinkedQueue<Job<?>> jobs = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pending = new AtomicInteger();
+        final K key;
+
+        // Guarded by this
+        boolean closed;
+
+        KeyQueue(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A single job together with its result and retry bookkeeping.
+     */
+    private static final class Job<V> {
+        final SettableFuture<V> result = SettableFuture.create();
+        final Callable<? extends ListenableFuture<V>> callable;
+        // Only accessed by one thread at a time, as a job is never running concurrently with itself
+        int retriesLeft;
+        @Nullable ListenableFuture<V> attempt;
+
+        Job(Callable<? extends ListenableFuture<V>> callable, int retriesLeft) {
+            this.callable = requireNonNull(callable);
+            this.retriesLeft = retriesLeft;
+        }
+
+        void start(FutureCallback<Object> callback) {
+            var future = invoke();
+            attempt = future;
+            Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private ListenableFuture<V> invoke() {
+            try {
+                return requireNonNull(callable.call(), "Job returned a null future");
+            } catch (Exception e) {
+                return Futures.immediateFailedFuture(e);
+            }
+        }
+
+        void finish() {
+            result.setFuture(requireNonNull(attempt));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations, with one bucket per power of two microseconds. See {@link ExecutorStatsMXBean}
+ * for the bucket layout.
+ */
+// package-local not public (for the time being)
+final class LatencyHistogram {
+    static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        buckets.incrementAndGet(micros <= 0 ? 0 : Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros),
+            BUCKET_COUNT - 1));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    long averageNanos() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : totalNanos.sum() / samples;
+    }
+
+    long maxNanos() {
+        return maxNanos.get();
+    }
+
+    long[] buckets() {
+        var ret = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            ret[i] = buckets.get(i);
+        }
+        return ret;
+    }
+}
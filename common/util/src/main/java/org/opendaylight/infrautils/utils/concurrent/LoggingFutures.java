@@ -11,7 +11,6 @@ import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.JdkFutureAdapters;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.concurrent.Future;
@@ -20,6 +19,10 @@ import org.slf4j.Logger;
 /**
  * Utility methods to add completion/failure logging to various kinds of Futures.
  *
+ * <p>Plain {@link Future}s are adapted to {@link ListenableFuture}s without dedicating a thread to each of them:
+ * {@link java.util.concurrent.CompletionStage}s are hooked directly, while any other {@link Future} is polled by
+ * a single shared thread.
+ *
  * @author Michael Vorburger.ch - Initial author
  * @author Robert Varga - moved here from JdkFutures &amp; ListenableFutures
  */
@@ -39,7 +42,7 @@ public final class LoggingFutures {
      * @throws NullPointerException if any of the arguments is null
      */
     public static <V> ListenableFuture<V> addErrorLogging(Future<V> future, Logger logger, String message) {
-        return addErrorLogging(JdkFutureAdapters.listenInPoolThread(future), logger, message);
+        return addErrorLogging(FutureAdapter.listen(future), logger, message);
     }
 
     /**
@@ -53,7 +56,7 @@ public final class LoggingFutures {
      * @throws NullPointerException if any of the arguments is null
      */
     public static <V> ListenableFuture<V> addErrorLogging(Future<V> future, Logger logger, String format, Object arg) {
-        return addErrorLogging(JdkFutureAdapters.listenInPoolThread(future), logger, format, arg);
+        return addErrorLogging(FutureAdapter.listen(future), logger, format, arg);
     }
 
     /**
@@ -72,7 +75,7 @@ public final class LoggingFutures {
      */
     public static <V> ListenableFuture<V> addErrorLogging(Future<V> future, Logger logger, String format,
             Object... args) {
-        return addErrorLogging(JdkFutureAdapters.listenInPoolThread(future), logger, format, args);
+        return addErrorLogging(FutureAdapter.listen(future), logger, format, args);
     }
 
     /**
@@ -186,6 +189,57 @@ public final class LoggingFutures {
         return addCallback(future, new FailureFormatMoreArgumentsLoggingFutureCallback<V>(logger, format, args));
     }
 
+    /**
+     * Adds a callback to a Future which logs any failures, rate-limiting identical ones. See
+     * {@link #addRateLimitedErrorLogging(ListenableFuture, Logger, String)} for details.
+     *
+     * @param future the future to add logging to
+     * @param logger logger to use
+     * @param message message to log
+     * @return ListenableFuture backed by the supplied future
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <V> ListenableFuture<V> addRateLimitedErrorLogging(Future<V> future, Logger logger,
+            String message) {
+        return addRateLimitedErrorLogging(FutureAdapter.listen(future), logger, message);
+    }
+
+    /**
+     * Adds a callback to a ListenableFuture which logs any failures, rate-limiting identical ones.
+     *
+     * <p>Failures are grouped by logger, message and exception type. The first failure in each group is logged in full,
+     * including its stack trace. Further failures in the same group are only counted, and periodically logged as
+     * a single summary line with the number of failures suppressed since the previous summary. These counts are also
+     * available through {@link FailureLogStatsMXBean}. Use this instead of
+     * {@link #addErrorLogging(ListenableFuture, Logger, String)} for futures which may fail in large numbers for the
+     * same reason, for example when a backend goes away.
+     *
+     * @param future the future to add logging to
+     * @param logger logger to use
+     * @param message message to log
+     * @return The future
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <V> ListenableFuture<V> addRateLimitedErrorLogging(ListenableFuture<V> future, Logger logger,
+            String message) {
+        return addCallback(future, new DeduplicatingFailureLoggingFutureCallback<>(logger, message));
+    }
+
+    /**
+     * Adds a callback to a FluentFuture which logs any failures, rate-limiting identical ones. See
+     * {@link #addRateLimitedErrorLogging(ListenableFuture, Logger, String)} for details.
+     *
+     * @param future the future to add logging to
+     * @param logger logger to use
+     * @param message message to log
+     * @return The future
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <V> FluentFuture<V> addRateLimitedErrorLogging(FluentFuture<V> future, Logger logger,
+            String message) {
+        return addCallback(future, new DeduplicatingFailureLoggingFutureCallback<>(logger, message));
+    }
+
     private static <V, F extends ListenableFuture<V>> F addCallback(F future, FutureCallback<V> callback) {
         Futures.addCallback(future, callback, MoreExecutors.directExecutor());
         return future;
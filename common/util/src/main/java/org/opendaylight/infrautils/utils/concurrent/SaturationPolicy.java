@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * What a bounded executor created by {@link Executors} does when a task is submitted while its queue is full. In all
+ * cases a task submitted after the executor has been shut down is rejected with a {@link RejectedExecutionException}.
+ */
+public enum SaturationPolicy {
+    /**
+     * Block the submitting thread until there is space in the queue. If the submitting thread is interrupted while
+     * waiting, the task is rejected with a {@link RejectedExecutionException} and the interrupt flag is restored.
+     */
+    BLOCK {
+        @Override
+        void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for space in " + executor, e);
+            }
+            recheckShutdown(task, executor);
+        }
+    },
+    /**
+     * Run the task in the submitting thread. This naturally slows down producers to the rate at which the executor
+     * can keep up.
+     */
+    CALLER_RUNS {
+        @Override
+        void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            task.run();
+        }
+    },
+    /**
+     * Discard the oldest queued task and enqueue the submitted one. The {@link Future} of the discarded task, if any,
+     * is cancelled, so that nobody waits for it forever.
+     */
+    DROP_OLDEST {
+        @Override
+        void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            var queue = executor.getQueue();
+            while (!queue.offer(task)) {
+                var oldest = queue.poll();
+                if (oldest != null) {
+                    var unwrapped = oldest instanceof InstrumentedThreadPoolExecutor.TimedTask timed ? timed.delegate
+                        : oldest;
+                    if (unwrapped instanceof Future<?> future) {
+                        future.cancel(false);
+                    }
+                }
+            }
+            recheckShutdown(task, executor);
+        }
+    },
+    /**
+     * Reject the task. Methods returning a {@link com.google.common.util.concurrent.ListenableFuture} return an
+     * immediately-failed future with a {@link RejectedExecutionException} instead of throwing it, while
+     * {@link java.util.concurrent.Executor#execute(Runnable)} throws it.
+     */
+    FAIL_FAST {
+        @Override
+        void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            throw new RejectedExecutionException("Task " + task + " rejected from saturated " + executor);
+        }
+
+        @Override
+        ListeningExecutorService decorate(ListeningExecutorService executor) {
+            return new FailFastListeningExecutorService(executor);
+        }
+    };
+
+    abstract void rejectedExecution(Runnable task, ThreadPoolExecutor executor);
+
+    ListeningExecutorService decorate(ListeningExecutorService executor) {
+        return executor;
+    }
+
+    /**
+     * Reject a task which has been enqueued behind the executor's back, if the executor has been shut down in the
+     * meantime. Its workers may have already exited, in which case nobody would ever run the task. This mirrors the
+     * recheck {@link ThreadPoolExecutor#execute(Runnable)} does after enqueueing a task. Going through
+     * {@link ThreadPoolExecutor#remove(Runnable)} lets the executor terminate if its workers are gone.
+     */
+    private static void recheckShutdown(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown() && executor.remove(task)) {
+            throw new RejectedExecutionException("Task " + task + " rejected from shut down " + executor);
+        }
+    }
+
+    final RejectedExecutionHandler handler() {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Task " + task + " rejected from shut down " + executor);
+            }
+            rejectedExecution(task, executor);
+        };
+    }
+}
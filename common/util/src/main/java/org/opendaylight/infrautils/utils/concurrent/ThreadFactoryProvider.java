@@ -51,8 +51,26 @@ public abstract class ThreadFactoryProvider {
         return true;
     }
 
+    /**
+     * Whether new threads created via this factory are virtual threads instead of platform threads. Virtual threads
+     * are always daemon threads and do not support {@link #priority()}, so both of these are ignored when this is set.
+     * <b>NB: Defaults to false.</b>
+     */
+    @Value.Default public boolean virtual() {
+        return false;
+    }
+
     public ThreadFactory get() {
         var prefix = namePrefix();
+        if (virtual()) {
+            var factory = Thread.ofVirtual()
+                .name(prefix + '-', 0)
+                .uncaughtExceptionHandler(LoggingThreadUncaughtExceptionHandler.toLogger(logger()))
+                .factory();
+            logger().info("Virtual ThreadFactory for {} created", prefix);
+            return factory;
+        }
+
         var builder = Thread.ofPlatform()
             .name(prefix + '-', 0)
             .daemon(true)
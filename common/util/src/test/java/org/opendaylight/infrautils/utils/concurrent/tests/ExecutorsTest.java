@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent.tests;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.junit.Test;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.opendaylight.infrautils.utils.concurrent.SaturationPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit test for {@link Executors}.
+ */
+public class ExecutorsTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorsTest.class);
+
+    @Test
+    public void testVirtualThreadPerTaskExecutor() throws InterruptedException, ExecutionException {
+        var executor = Executors.newListeningVirtualThreadPerTaskExecutor("test-virtual", LOG);
+        try {
+            var thread = executor.submit(Thread::currentThread).get();
+            assertTrue(thread.isVirtual());
+            assertTrue(thread.getName().startsWith("test-virtual-"));
+        } finally {
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+    }
+
+    @Test
+    public void testInstrumentedFixedThreadPool()
+            throws InterruptedException, ExecutionException, MalformedObjectNameException {
+        var objectName = new ObjectName("org.opendaylight.infrautils:type=ExecutorStats,name=test-instrumented");
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var executor = Executors.newInstrumentedFixedThreadPool(2, "test-instrumented", LOG);
+        assertTrue(server.isRegistered(objectName));
+        for (int i = 0; i < 10; i++) {
+            executor.submit(() -> { }).get();
+        }
+        // wait for the workers to account for the last task
+        Executors.shutdownAndAwaitTermination(executor);
+        assertFalse(server.isRegistered(objectName));
+
+        var stats = executor.getStats();
+        assertEquals("test-instrumented", stats.getName());
+        assertEquals(10, stats.getSubmittedTaskCount());
+        assertEquals(10, stats.getCompletedTaskCount());
+        assertEquals(0, stats.getRejectedTaskCount());
+        assertEquals(0, stats.getActiveThreadCount());
+        assertEquals(10, Arrays.stream(stats.getQueueTimeHistogram()).sum());
+        assertEquals(10, Arrays.stream(stats.getExecutionTimeHistogram()).sum());
+    }
+
+    @Test
+    public void testInstrumentedNameReuse() throws MalformedObjectNameException {
+        var objectName = new ObjectName("org.opendaylight.infrautils:type=ExecutorStats,name=test-reuse");
+        var reusedName = new ObjectName("org.opendaylight.infrautils:type=ExecutorStats,name=test-reuse-2");
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var first = Executors.newInstrumentedSingleThreadExecutor("test-reuse", LOG);
+        var second = Executors.newInstrumentedSingleThreadExecutor("test-reuse", LOG);
+        try {
+            assertTrue(server.isRegistered(objectName));
+            assertTrue(server.isRegistered(reusedName));
+        } finally {
+            // unregistered on shutdown, without waiting for termination
+            first.shutdown();
+            second.shutdown();
+        }
+        assertFalse(server.isRegistered(objectName));
+        assertFalse(server.isRegistered(reusedName));
+    }
+
+    @Test
+    public void testInstrumentedCallerRuns() throws InterruptedException, ExecutionException {
+        var executor = Executors.newInstrumentedBoundedFixedThreadPool(1, 1, SaturationPolicy.CALLER_RUNS,
+            "test-instrumented-caller-runs", LOG);
+        var latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                latch.await();
+                return null;
+            });
+            executor.submit(() -> { });
+            executor.submit(() -> { }).get();
+
+            // the task run by the caller has been accounted for
+            var stats = executor.getStats();
+            assertEquals(1, stats.getRejectedTaskCount());
+            assertEquals(1, stats.getCompletedTaskCount());
+            assertEquals(1, Arrays.stream(stats.getExecutionTimeHistogram()).sum());
+        } finally {
+            latch.countDown();
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+        assertEquals(3, executor.getStats().getCompletedTaskCount());
+    }
+
+    @Test
+    public void testBoundedFixedThreadPoolFailFast() throws InterruptedException {
+        var executor = Executors.newBoundedFixedThreadPool(1, 1, SaturationPolicy.FAIL_FAST, "test-fail-fast", LOG);
+        var latch = new CountDownLatch(1);
+        try {
+            // occupies the single worker ...
+            var running = executor.submit(() -> {
+                latch.await();
+                return null;
+            });
+            // ... fills the queue ...
+            var queued = executor.submit(() -> { });
+            // ... and is rejected
+            var rejected = executor.submit(() -> { });
+
+            var ex = assertThrows(ExecutionException.class, rejected::get);
+            assertThat(ex.getCause(), instanceOf(RejectedExecutionException.class));
+            assertFalse(running.isDone());
+            assertFalse(queued.isDone());
+        } finally {
+            latch.countDown();
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+    }
+
+    @Test
+    public void testBoundedFixedThreadPoolCallerRuns() throws InterruptedException, ExecutionException {
+        var executor = Executors.newBoundedFixedThreadPool(1, 1, SaturationPolicy.CALLER_RUNS, "test-caller-runs",
+            LOG);
+        var latch = new CountDownLatch(1);
+        try {
+            var running = executor.submit(() -> {
+                latch.await();
+                return null;
+            });
+            var queued = executor.submit(() -> { });
+            assertSame(Thread.currentThread(), executor.submit(Thread::currentThread).get());
+            assertFalse(running.isDone());
+            assertFalse(queued.isDone());
+        } finally {
+            latch.countDown();
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+    }
+
+    @Test
+    public void testBoundedFixedThreadPoolBlockShutdown()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var executor = Executors.newBoundedFixedThreadPool(1, 1, SaturationPolicy.BLOCK, "test-block-shutdown", LOG);
+        var latch = new CountDownLatch(1);
+        executor.submit(() -> {
+            latch.await();
+            return null;
+        });
+        executor.submit(() -> { });
+
+        var outcome = new AtomicReference<>();
+        var submitter = new Thread(() -> {
+            try {
+                outcome.set(executor.submit(() -> { }));
+            } catch (RejectedExecutionException e) {
+                outcome.set(e);
+            }
+        });
+        submitter.start();
+        // wait for the submitter to block on the full queue
+        while (submitter.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        executor.shutdown();
+        latch.countDown();
+        submitter.join();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // the task enqueued while shutting down is either run or rejected, it is never left behind
+        if (outcome.get() instanceof Future<?> future) {
+            future.get(5, TimeUnit.SECONDS);
+        } else {
+            assertThat(outcome.get(), instanceOf(RejectedExecutionException.class));
+        }
+    }
+}
@@ -8,14 +8,30 @@
 package org.opendaylight.infrautils.utils.concurrent.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.opendaylight.infrautils.utils.concurrent.LoggingFutures.addErrorLogging;
+import static org.opendaylight.infrautils.utils.concurrent.LoggingFutures.addRateLimitedErrorLogging;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMX;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
 import org.junit.Rule;
 import org.junit.Test;
+import org.opendaylight.infrautils.testutils.LogCapture;
 import org.opendaylight.infrautils.testutils.LogCaptureRule;
+import org.opendaylight.infrautils.utils.concurrent.FailureLogStatsMXBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +86,80 @@ public class FutureListenerLogTest {
         assertEquals("some problem", logCaptureRule.getLastErrorThrowable().getMessage());
     }
 
+    @Test
+    public void testFailingCompletableFuture() {
+        logCaptureRule.expectError("Future (eventually) failed: duh");
+        var future = new CompletableFuture<Void>();
+        var listenable = addErrorLogging(future, LOG, "duh");
+        assertFalse(listenable.isDone());
+        future.completeExceptionally(new Exception("some problem"));
+        assertTrue(listenable.isDone());
+    }
+
+    @Test
+    public void testFailingPlainFuture() throws InterruptedException {
+        logCaptureRule.expectError("Future (eventually) failed: duh");
+        var future = new FutureTask<Void>(() -> {
+            throw new Exception("some problem");
+        });
+        var listenable = addErrorLogging(future, LOG, "duh");
+        // listeners run in registration order, hence once this one fires the error has been logged
+        var latch = new CountDownLatch(1);
+        listenable.addListener(latch::countDown, MoreExecutors.directExecutor());
+        future.run();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("some problem", logCaptureRule.getLastErrorThrowable().getMessage());
+    }
+
+    @Test
+    public void testMisbehavingPlainFuture() throws InterruptedException {
+        logCaptureRule.handleErrorLogs(logCaptures -> assertEquals(List.of("broken isDone()"),
+            logCaptures.stream().map(LogCapture::getCause).map(cause -> cause.orElseThrow().getMessage()).toList()));
+        var calls = new AtomicInteger();
+        var broken = new FutureTask<Void>(() -> null) {
+            @Override
+            public boolean isDone() {
+                // answers when first adapted, then breaks while being polled
+                if (calls.incrementAndGet() > 1) {
+                    throw new IllegalStateException("broken isDone()");
+                }
+                return false;
+            }
+        };
+        var brokenListenable = addErrorLogging(broken, LOG, "broken");
+        var future = new FutureTask<>(() -> "done");
+        var listenable = addErrorLogging(future, LOG, "duh");
+
+        // the broken future fails on its own, and does not stop the others from being polled
+        var latch = new CountDownLatch(2);
+        brokenListenable.addListener(latch::countDown, MoreExecutors.directExecutor());
+        listenable.addListener(latch::countDown, MoreExecutors.directExecutor());
+        future.run();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(brokenListenable.isDone());
+        assertEquals("done", Futures.getUnchecked(listenable));
+    }
+
+    @Test
+    public void testRateLimitedFailuresAreLoggedOnce() throws MalformedObjectNameException {
+        // only the first failure is logged in full, a summary of the others may follow
+        logCaptureRule.handleErrorLogs(logCaptures -> assertEquals(List.of(
+            "Future (eventually) failed: rate-limited (identical failures will be summarized every 10s)"),
+            logCaptures.stream().map(LogCapture::getMessage).filter(msg -> msg.contains("will be summarized"))
+                .toList()));
+        for (int i = 0; i < 3; i++) {
+            ListenableFuture<Void> failedFuture = Futures.immediateFailedFuture(new Exception("some problem"));
+            assertSame(failedFuture, addRateLimitedErrorLogging(failedFuture, LOG, "rate-limited"));
+        }
+
+        // the other two are counted towards the summary
+        var stats = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+            new ObjectName("org.opendaylight.infrautils:type=FailureLogStats,name=LoggingFutures"),
+            FailureLogStatsMXBean.class);
+        assertEquals(Long.valueOf(2), stats.getSuppressedFailureCounts().get(
+            FutureListenerLogTest.class.getName() + ": rate-limited (Exception)"));
+    }
+
     private static final class ObjectWithToString {
         private final String string;
 
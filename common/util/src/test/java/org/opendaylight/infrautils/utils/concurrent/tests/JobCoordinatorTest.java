@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.utils.concurrent.tests;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.infrautils.utils.concurrent.JobCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit test for {@link JobCoordinator}.
+ */
+public class JobCoordinatorTest {
+    private static final Logger LOG = LoggerFactory.getLogger(JobCoordinatorTest.class);
+
+    private final JobCoordinator<String> coordinator = new JobCoordinator<>(4, "test-jobs", LOG);
+
+    @After
+    public void afterTest() {
+        coordinator.close();
+    }
+
+    @Test
+    public void testSameKeyRunsInOrder() throws InterruptedException, ExecutionException {
+        var order = new ArrayList<Integer>();
+        // The first job does not complete until we say so, all others must wait for it
+        var gate = SettableFuture.<Integer>create();
+        var first = coordinator.enqueue("key", () -> gate);
+        var futures = new ArrayList<ListenableFuture<Integer>>();
+        for (int i = 0; i < 100; i++) {
+            var value = i;
+            futures.add(coordinator.enqueue("key", () -> {
+                // only ever accessed by one job at a time
+                order.add(value);
+                return Futures.immediateFuture(value);
+            }));
+        }
+
+        // a different key is not held up
+        assertEquals("other", coordinator.enqueue("other", () -> Futures.immediateFuture("other")).get());
+        assertEquals(List.of(), order);
+
+        gate.set(-1);
+        assertEquals(Integer.valueOf(-1), first.get());
+        for (var future : futures) {
+            future.get();
+        }
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, order);
+    }
+
+    @Test
+    public void testRetries() throws InterruptedException, ExecutionException {
+        var attempts = new AtomicInteger();
+        var future = coordinator.<String>enqueue("key", () -> attempts.incrementAndGet() < 3
+            ? Futures.immediateFailedFuture(new IllegalStateException("not yet"))
+            : Futures.immediateFuture("done"), 2);
+        assertEquals("done", future.get());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testClose() {
+        // never completes on its own
+        var running = coordinator.enqueue("key", SettableFuture::<String>create);
+        var queued = coordinator.enqueue("key", () -> Futures.immediateFuture("queued"));
+        coordinator.close();
+
+        // nobody is left waiting
+        assertRejected(running);
+        assertRejected(queued);
+        assertRejected(coordinator.enqueue("key", () -> Futures.immediateFuture("late")));
+        assertEquals(0, coordinator.getKeyCount());
+        assertEquals(0, coordinator.getPendingJobCount());
+    }
+
+    @Test
+    public void testCloseWhileAttemptOutstanding() {
+        var gate = SettableFuture.<String>create();
+        var running = coordinator.enqueue("key", () -> gate);
+        var queued = coordinator.enqueue("key", () -> Futures.immediateFuture("queued"));
+        var another = coordinator.enqueue("key", () -> Futures.immediateFuture("another"));
+        coordinator.close();
+
+        // the attempt completing after close() must not pick up the jobs close() has failed
+        gate.set("late");
+        assertRejected(running);
+        assertRejected(queued);
+        assertRejected(another);
+        assertEquals(0, coordinator.getKeyCount());
+        assertEquals(0, coordinator.getPendingJobCount());
+    }
+
+    private static void assertRejected(ListenableFuture<?> future) {
+        var ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertThat(ex.getCause(), instanceOf(RejectedExecutionException.class));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A {@link ServiceStatusProvider} whose status check is asynchronous, for instance because it needs to consult a
+ * datastore or a remote peer. It is registered in the OSGi service registry as a {@link ServiceStatusProvider}.
+ *
+ * <p>Diagstatus starts the checks of all such providers at once and waits for them, up to the provider timeout if one
+ * is configured, without tying up a thread for each. A provider which does not answer in time is reported with its
+ * last known status, marked as stale in its description.
+ */
+public interface AsyncServiceStatusProvider extends ServiceStatusProvider {
+    /**
+     * Called back whenever a query comes for the current status of the registered services. Implementations should
+     * return promptly, doing any expensive work off the calling thread.
+     *
+     * @return future current ServiceDescriptor
+     */
+    @NonNull ListenableFuture<ServiceDescriptor> getServiceDescriptorAsync();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The default implementation waits for {@link #getServiceDescriptorAsync()} to complete.
+     */
+    @Override
+    default ServiceDescriptor getServiceDescriptor() {
+        return Futures.getUnchecked(getServiceDescriptorAsync());
+    }
+}
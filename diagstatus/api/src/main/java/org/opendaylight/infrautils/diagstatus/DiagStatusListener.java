@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Listener notified of service state transitions, registered with
+ * {@link DiagStatusService#registerListener(DiagStatusListener)}.
+ *
+ * <p>Notifications are delivered asynchronously, one at a time and in the order in which the changes happened. They
+ * may arrive after the change has already been superseded, hence listeners should not expect the
+ * {@link DiagStatusService} to still report what they have been notified of. Notifications are queued for a listener
+ * which cannot keep up only up to a limit, beyond which they are dropped and the listener is told about it through
+ * {@link #onNotificationsDropped(long)}.
+ */
+public interface DiagStatusListener {
+    /**
+     * Invoked when the {@link ServiceState} of a service changes, including when the service is registered or
+     * unregistered.
+     *
+     * @param previous descriptor before the transition, {@code null} if the service has just been registered
+     * @param current descriptor after the transition, {@code null} if the service has just been unregistered
+     */
+    default void onServiceStateChanged(@Nullable ServiceDescriptor previous, @Nullable ServiceDescriptor current) {
+        // no-op
+    }
+
+    /**
+     * Invoked when {@link DiagStatusService#isOperational()} flips.
+     *
+     * @param isOperational new value
+     */
+    default void onOperationalChanged(boolean isOperational) {
+        // no-op
+    }
+
+    /**
+     * Invoked when notifications have been dropped because this listener has fallen behind. It is invoked once the
+     * notifications which did fit have been delivered, hence listeners which track state should resynchronize it from
+     * {@link DiagStatusService#getAllServiceDescriptors()} and {@link DiagStatusService#isOperational()}.
+     *
+     * @param count number of notifications which have been dropped
+     */
+    default void onNotificationsDropped(long count) {
+        // no-op
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+/**
+ * A registration of a {@link DiagStatusListener}. Closing it stops any further notifications, except one which may
+ * be in progress.
+ */
+public interface DiagStatusListenerRegistration extends AutoCloseable {
+    @Override
+    void close();
+}
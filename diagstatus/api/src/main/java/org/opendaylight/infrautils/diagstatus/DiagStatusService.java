@@ -7,7 +7,19 @@
  */
 package org.opendaylight.infrautils.diagstatus;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * DiagStatus ServiceDescriptor which lets users register/retrieve for particular service status details.
@@ -31,6 +43,28 @@ public interface DiagStatusService {
      */
     ServiceRegistration register(String serviceIdentifier);
 
+    /**
+     * Register a service for status monitoring, which promises to {@link ServiceRegistration#report(ServiceDescriptor)}
+     * its status at least once per {@code heartbeatInterval}. A service which fails to do so is considered
+     * {@link ServiceState#SUSPECTED} until it reports again, at which point it is considered
+     * {@link ServiceState#RECOVERED} until its next report.
+     *
+     * <p>The default implementation does not watch for missed heartbeats and is otherwise equivalent to
+     * {@link #register(String)}.
+     *
+     * @param serviceIdentifier
+     *            unique identifier for the service being registered
+     * @param heartbeatInterval
+     *            maximum time between two reports
+     *
+     * @return Registration status
+     * @throws IllegalArgumentException if {@code heartbeatInterval} is not positive
+     */
+    default ServiceRegistration register(String serviceIdentifier, Duration heartbeatInterval) {
+        checkArgument(heartbeatInterval.isPositive(), "Invalid heartbeat interval %s", heartbeatInterval);
+        return register(serviceIdentifier);
+    }
+
     /**
      * Retrieve the status of a service specified by the identifier.
      *
@@ -39,6 +73,19 @@ public interface DiagStatusService {
      */
     ServiceDescriptor getServiceDescriptor(String serviceIdentifier);
 
+    /**
+     * Retrieve the time at which a service last reported its status, whether or not that status has changed. This is
+     * unlike {@link ServiceDescriptor#getStatusTimestamp()}, which may only change along with the status. The default
+     * implementation does not track reports and returns an empty {@link Optional}.
+     *
+     * @param serviceIdentifier
+     *            unique identifier for a service
+     * @return time of the last report, empty if the service is not registered or its reports are not tracked
+     */
+    default Optional<Instant> getLastReportTime(String serviceIdentifier) {
+        return Optional.empty();
+    }
+
     /**
      * Retrieve the status of all services registered so far.
      *
@@ -46,10 +93,132 @@ public interface DiagStatusService {
      */
     Collection<ServiceDescriptor> getAllServiceDescriptors();
 
+    /**
+     * Retrieve the status of those registered services which match a query, ordered by service name.
+     * Implementations are encouraged to answer this without looking at services which cannot match.
+     *
+     * <p>The default implementation filters {@link #getAllServiceDescriptors()}. It does not know about any labels,
+     * hence a query for a {@link ServiceDescriptorQuery#getLabel()} does not match any service.
+     *
+     * @param query query to answer
+     * @return requested page of matching services
+     */
+    default ServiceDescriptorPage queryServiceDescriptors(ServiceDescriptorQuery query) {
+        var matching = getAllServiceDescriptors().stream()
+            .filter(descriptor -> query.matches(descriptor, Set.of()))
+            .sorted(Comparator.comparing(ServiceDescriptor::getModuleServiceName))
+            .collect(Collectors.toList());
+        var offset = query.getOffset();
+        var total = matching.size();
+        return new ServiceDescriptorPage(offset, total,
+            matching.subList(Math.min(offset, total), (int) Math.min((long) offset + query.getLimit(), total)));
+    }
+
     /**
      * Retrieve the status of all services registered so far.
      *
      * @return status as a {@link ServiceStatusSummary}
      */
     ServiceStatusSummary getServiceStatusSummary();
+
+    /**
+     * Wait for the {@link ServiceStatusSummary} to change. The returned future completes as soon as a summary with a
+     * {@link ServiceStatusSummary#getVersion()} greater than {@code sinceVersion} is available, which may be
+     * immediately. Cancelling the returned future stops waiting.
+     *
+     * <p>The default implementation cannot tell when anything changes and completes immediately with the current
+     * {@link #getServiceStatusSummary()}, whatever its version. Callers which find that the version has not moved past
+     * {@code sinceVersion} should hence not call this method again right away.
+     *
+     * @param sinceVersion version the caller has already seen, 0 if none
+     * @return future completing with a newer summary
+     */
+    default ListenableFuture<ServiceStatusSummary> awaitServiceStatusSummary(long sinceVersion) {
+        return Futures.immediateFuture(getServiceStatusSummary());
+    }
+
+    /**
+     * Retrieve the recent {@link ServiceState} transitions of all services registered so far. The default
+     * implementation does not keep any history and returns an empty collection.
+     *
+     * @return histories of all registered services
+     */
+    default Collection<ServiceStatusHistory> getAllServiceStatusHistories() {
+        return List.of();
+    }
+
+    /**
+     * Retrieve the number of {@link ServiceState} transitions of a service, including its registration. Unlike
+     * {@link #getAllServiceStatusHistories()}, implementations should answer this without polling providers or
+     * building histories. The default implementation looks the service up in {@link #getAllServiceStatusHistories()}.
+     *
+     * @param serviceIdentifier
+     *            unique identifier for a service
+     * @return number of transitions, 0 if the service is not registered or its transitions are not tracked
+     */
+    default long getTransitionCount(String serviceIdentifier) {
+        return getAllServiceStatusHistories().stream()
+            .filter(history -> history.getServiceName().equals(serviceIdentifier))
+            .mapToLong(ServiceStatusHistory::getTransitionCount)
+            .findFirst().orElse(0);
+    }
+
+    /**
+     * Determine whether a service is flapping between states, as reported by {@link ServiceStatusHistory#isFlapping()}.
+     * Unlike {@link #getAllServiceStatusHistories()}, implementations should answer this without polling providers or
+     * building histories. The default implementation looks the service up in {@link #getAllServiceStatusHistories()}.
+     *
+     * @param serviceIdentifier
+     *            unique identifier for a service
+     * @return {@code true} if the service is flapping, {@code false} if it is not, is not registered or its
+     *         transitions are not tracked
+     */
+    default boolean isFlapping(String serviceIdentifier) {
+        return getAllServiceStatusHistories().stream()
+            .anyMatch(history -> history.getServiceName().equals(serviceIdentifier) && history.isFlapping());
+    }
+
+    /**
+     * Register a listener to be notified of service state transitions and of {@link #isOperational()} flips. Listeners
+     * are notified asynchronously, hence a slow listener does not hold up services reporting their status.
+     * Implementations may bound the number of notifications pending for a listener and drop those in excess, in which
+     * case a listener which falls too far behind should re-synchronize through {@link #getAllServiceDescriptors()}.
+     *
+     * <p>The default implementation does not track changes and hence never notifies the listener.
+     *
+     * @param listener listener to register
+     * @return registration, which needs to be closed to unregister the listener
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    default DiagStatusListenerRegistration registerListener(DiagStatusListener listener) {
+        requireNonNull(listener);
+        return () -> {
+            // nothing to unregister
+        };
+    }
+
+    /**
+     * Determine whether the system is operational, i.e. whether {@link #getServiceStatusSummary()} would report it as
+     * {@link ServiceStatusSummary#isOperational()}. Implementations are encouraged to answer this without materializing
+     * any {@link ServiceDescriptor}s.
+     *
+     * @return {@code true} if the system is ready and all services are {@link ServiceState#OPERATIONAL}
+     */
+    default boolean isOperational() {
+        return getServiceStatusSummary().isOperational();
+    }
+
+    /**
+     * Determine whether the system is operational as of the status last known to this service, without polling any
+     * {@link ServiceStatusProvider}s. This is meant for frequent checks, such as readiness probes, which must not be
+     * held up by a slow provider. Implementations which only poll providers when queried should arrange for them to be
+     * polled in the background, otherwise what is last known never changes for those. The default implementation falls
+     * back to {@link #isOperational()}.
+     *
+     * @return {@code true} if the system is ready and all services were last known to be
+     *         {@link ServiceState#OPERATIONAL}
+     */
+    default boolean isLastKnownOperational() {
+        return isOperational();
+    }
 }
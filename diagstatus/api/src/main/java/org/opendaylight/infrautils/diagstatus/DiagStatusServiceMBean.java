@@ -28,4 +28,14 @@ public interface DiagStatusServiceMBean {
     String acquireServiceStatusAsJSON();
 
     Map<String, String> acquireServiceStatusMap();
+
+    /**
+     * Acquire the recent {@link ServiceState} transitions of all services, in human-readable form. The default
+     * implementation does not keep any history and returns an empty string.
+     *
+     * @return transitions of all services
+     */
+    default String acquireServiceStatusHistory() {
+        return "";
+    }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.time.Instant;
+
+/**
+ * {@link Gson} instances shared by the JSON representations in this package, so that they all agree on how
+ * {@link Instant}s and {@link Throwable}s look.
+ */
+// package-local not public (for the time being)
+final class Gsons {
+    static final Gson COMPACT = new GsonBuilder().serializeNulls()
+            .registerTypeAdapterFactory(ThrowableAdapterFactory.INSTANCE)
+            .registerTypeAdapter(Instant.class, InstantTypeAdapter.INSTANCE)
+            .create();
+    static final Gson PRETTY = COMPACT.newBuilder().setPrettyPrinting().create();
+
+    private Gsons() {
+        // Hidden on purpose
+    }
+
+    static Gson of(boolean pretty) {
+        return pretty ? PRETTY : COMPACT;
+    }
+}
@@ -13,6 +13,13 @@ import com.google.gson.JsonElement;
 import java.lang.reflect.Type;
 import java.time.Instant;
 
+/**
+ * Deserializes {@link Instant}s from their ISO-8601 form.
+ *
+ * @deprecated This class is not used by diagstatus, which deserializes {@link Instant}s through a streaming adapter
+ *             internal to {@link ServiceStatusSummary#fromJSON(String)}.
+ */
+@Deprecated(since = "7.1.15", forRemoval = true)
 public class InstantDeserializer implements JsonDeserializer<Instant> {
     @Override
     public Instant deserialize(JsonElement instantStr, Type typeOfSrc, JsonDeserializationContext context) {
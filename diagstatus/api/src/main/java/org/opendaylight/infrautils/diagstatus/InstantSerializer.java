@@ -14,6 +14,13 @@ import com.google.gson.JsonSerializer;
 import java.lang.reflect.Type;
 import java.time.Instant;
 
+/**
+ * Serializes {@link Instant}s in their ISO-8601 form.
+ *
+ * @deprecated This class is not used by diagstatus, which serializes {@link Instant}s through a streaming adapter
+ *             internal to {@link ServiceStatusSummary#toJSON()}.
+ */
+@Deprecated(since = "7.1.15", forRemoval = true)
 public class InstantSerializer implements JsonSerializer<Instant> {
     @Override
     public JsonElement serialize(Instant instant, Type typeOfSrc, JsonSerializationContext context) {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Reads and writes {@link Instant}s in their ISO-8601 form, streaming without an intermediate
+ * {@link com.google.gson.JsonElement}.
+ */
+final class InstantTypeAdapter extends TypeAdapter<Instant> {
+    static final InstantTypeAdapter INSTANCE = new InstantTypeAdapter();
+
+    private InstantTypeAdapter() {
+        // Hidden on purpose
+    }
+
+    @Override
+    public void write(JsonWriter out, Instant value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.toString());
+        }
+    }
+
+    @Override
+    public Instant read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return Instant.parse(in.nextString());
+    }
+}
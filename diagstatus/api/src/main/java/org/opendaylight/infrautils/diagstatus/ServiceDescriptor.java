@@ -20,10 +20,14 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * Details of a registered service.
  *
+ * <p>An error cause is not retained as reported, but as a compact summary of it: its type, message and the top of its
+ * stack trace, together with a bounded number of its causes and suppressed exceptions. That way a descriptor does not
+ * keep the reported exception's object graph reachable, and serializing it has bounded cost.
+ *
  * @author Faseela K
  */
 @Immutable
-@SuppressWarnings("Immutable") // Throwable is not really immutable (although maybe it should have been)
+@SuppressWarnings("Immutable") // ThrowableSummary is not modified once created, but Throwable is not immutable
 public final class ServiceDescriptor {
 
     private final String serviceName;
@@ -31,16 +35,17 @@ public final class ServiceDescriptor {
     @SerializedName("reportedStatusDescription")
     private final String statusDesc;
     private final Instant statusTimestamp;
-    // In case of ERROR state specific error message to aid troubleshooting can be provided by monitored service:
+    // In case of ERROR state specific error message to aid troubleshooting can be provided by monitored service,
+    // this is always a ThrowableSummary:
     private final @Nullable Throwable errorCause;
 
-    private ServiceDescriptor(String serviceName, ServiceState svcState, String statusDesc,
-                              Throwable errorCause) {
+    public ServiceDescriptor(String serviceName, ServiceState svcState, String statusDesc,
+                             @Nullable Throwable errorCause) {
         this.serviceName = requireNonNull(serviceName, "serviceName");
         this.effectiveStatus = requireNonNull(svcState, "svcState");
         this.statusDesc = requireNonNull(statusDesc, "statusDesc");
         this.statusTimestamp = Instant.now();
-        this.errorCause = errorCause;
+        this.errorCause = errorCause == null ? null : ThrowableSummary.of(errorCause);
     }
 
     public ServiceDescriptor(String moduleServiceName, ServiceState svcState) {
@@ -63,6 +68,13 @@ public final class ServiceDescriptor {
         return effectiveStatus;
     }
 
+    /**
+     * Return the time at which this descriptor was created. A {@link DiagStatusService} may keep handing out the same
+     * descriptor for as long as the status of the service does not change, in which case this is the time of the last
+     * change of status rather than that of the last report.
+     *
+     * @return time at which this descriptor was created
+     */
     public Instant getStatusTimestamp() {
         return statusTimestamp;
     }
@@ -71,6 +83,12 @@ public final class ServiceDescriptor {
         return statusDesc;
     }
 
+    /**
+     * Return the error cause, if any. This is a summary of the reported {@link Throwable}, which retains its message,
+     * {@link Throwable#toString()} and the top of its stack trace, but is not the same instance nor of the same type.
+     *
+     * @return the error cause
+     */
     public Optional<Throwable> getErrorCause() {
         return Optional.ofNullable(errorCause);
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A page of {@link ServiceDescriptor}s matching a {@link ServiceDescriptorQuery}, ordered by service name.
+ */
+@Immutable
+@SuppressWarnings("Immutable") // see ServiceDescriptor
+public final class ServiceDescriptorPage {
+    /**
+     * Names of the JSON fields of a {@link ServiceDescriptor}, which can be selected when writing a page.
+     */
+    public static final ImmutableSet<String> FIELDS = ImmutableSet.of("serviceName", "effectiveStatus",
+        "reportedStatusDescription", "statusTimestamp", "errorCause");
+
+    private final int offset;
+    private final int total;
+    private final ImmutableList<ServiceDescriptor> descriptors;
+
+    public ServiceDescriptorPage(int offset, int total, List<ServiceDescriptor> descriptors) {
+        this.offset = offset;
+        this.total = total;
+        this.descriptors = ImmutableList.copyOf(descriptors);
+    }
+
+    /**
+     * Return the number of matching services which precede this page.
+     *
+     * @return offset of this page
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Return the number of services matching the query, regardless of paging.
+     *
+     * @return total number of matching services
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public List<ServiceDescriptor> getDescriptors() {
+        return descriptors;
+    }
+
+    /**
+     * Write the JSON representation of this page to a {@link Writer}, including only the selected fields of each
+     * descriptor. The writer is flushed, but not closed.
+     *
+     * @param writer writer to write to
+     * @param pretty {@code true} to pretty-print, {@code false} for compact output
+     * @param fields names of descriptor fields to include, as listed in {@link #FIELDS}, empty to include all of them
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if {@code fields} contains an unknown field
+     */
+    public void writeJSON(Writer writer, boolean pretty, Set<String> fields) throws IOException {
+        for (var field : fields) {
+            checkArgument(FIELDS.contains(field), "Unknown field %s", field);
+        }
+
+        var all = fields.isEmpty();
+        var gson = Gsons.of(pretty);
+        var throwableAdapter = gson.getAdapter(Throwable.class);
+        var jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginObject().name("offset").value(offset).name("total").value(total)
+            .name("serviceDescriptors").beginArray();
+        // Only the selected fields, in the order in which Gson writes them for a whole ServiceDescriptor
+        for (var descriptor : descriptors) {
+            jsonWriter.beginObject();
+            if (all || fields.contains("serviceName")) {
+                jsonWriter.name("serviceName").value(descriptor.getModuleServiceName());
+            }
+            if (all || fields.contains("effectiveStatus")) {
+                jsonWriter.name("effectiveStatus").value(descriptor.getServiceState().name());
+            }
+            if (all || fields.contains("reportedStatusDescription")) {
+                jsonWriter.name("reportedStatusDescription").value(descriptor.getStatusDesc());
+            }
+            if (all || fields.contains("statusTimestamp")) {
+                jsonWriter.name("statusTimestamp");
+                InstantTypeAdapter.INSTANCE.write(jsonWriter, descriptor.getStatusTimestamp());
+            }
+            if (all || fields.contains("errorCause")) {
+                jsonWriter.name("errorCause");
+                throwableAdapter.write(jsonWriter, descriptor.getErrorCause().orElse(null));
+            }
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray().endObject();
+        jsonWriter.flush();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("offset", offset).add("total", total)
+            .add("descriptors", descriptors).toString();
+    }
+}
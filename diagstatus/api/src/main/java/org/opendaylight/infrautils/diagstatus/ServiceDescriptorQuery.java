@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.errorprone.annotations.Immutable;
+import java.util.EnumSet;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A query for a subset of registered services, as answered by
+ * {@link DiagStatusService#queryServiceDescriptors(ServiceDescriptorQuery)}. A service matches if it is in one of the
+ * requested {@link ServiceState}s, its name starts with the requested prefix and it carries the requested label, each
+ * criterion which is not specified matching any service. Matching services are ordered by name, of which a page is
+ * selected by {@link #getOffset()} and {@link #getLimit()}.
+ */
+@Immutable
+public final class ServiceDescriptorQuery {
+    /**
+     * Builder of {@link ServiceDescriptorQuery} instances.
+     */
+    public static final class Builder {
+        private final EnumSet<ServiceState> states = EnumSet.noneOf(ServiceState.class);
+        private @Nullable String namePrefix;
+        private @Nullable String label;
+        private int offset;
+        private int limit = Integer.MAX_VALUE;
+
+        Builder() {
+            // Use ServiceDescriptorQuery.builder()
+        }
+
+        /**
+         * Add a state to match. Services in any of the added states match.
+         *
+         * @param state state to match
+         * @return this builder
+         */
+        public Builder state(ServiceState state) {
+            states.add(requireNonNull(state));
+            return this;
+        }
+
+        public Builder namePrefix(String newNamePrefix) {
+            namePrefix = requireNonNull(newNamePrefix);
+            return this;
+        }
+
+        public Builder label(String newLabel) {
+            label = requireNonNull(newLabel);
+            return this;
+        }
+
+        public Builder offset(int newOffset) {
+            checkArgument(newOffset >= 0, "Negative offset %s", newOffset);
+            offset = newOffset;
+            return this;
+        }
+
+        public Builder limit(int newLimit) {
+            checkArgument(newLimit > 0, "Invalid limit %s", newLimit);
+            limit = newLimit;
+            return this;
+        }
+
+        public ServiceDescriptorQuery build() {
+            return new ServiceDescriptorQuery(this);
+        }
+    }
+
+    private final ImmutableSet<ServiceState> states;
+    private final @Nullable String namePrefix;
+    private final @Nullable String label;
+    private final int offset;
+    private final int limit;
+
+    private ServiceDescriptorQuery(Builder builder) {
+        states = Sets.immutableEnumSet(builder.states);
+        namePrefix = builder.namePrefix;
+        label = builder.label;
+        offset = builder.offset;
+        limit = builder.limit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Return the states to match.
+     *
+     * @return states to match, empty to match any state
+     */
+    public Set<ServiceState> getStates() {
+        return states;
+    }
+
+    /**
+     * Return the prefix of service names to match.
+     *
+     * @return name prefix, {@code null} to match any name
+     */
+    public @Nullable String getNamePrefix() {
+        return namePrefix;
+    }
+
+    /**
+     * Return the label to match, as attached through {@link ServiceRegistration#setLabels(Set)}.
+     *
+     * @return label, {@code null} to match services regardless of their labels
+     */
+    public @Nullable String getLabel() {
+        return label;
+    }
+
+    /**
+     * Return the number of matching services to skip.
+     *
+     * @return number of matching services to skip
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Return the maximum number of matching services to return.
+     *
+     * @return maximum number of services to return, {@link Integer#MAX_VALUE} if unlimited
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Determine whether a service matches this query, disregarding {@link #getOffset()} and {@link #getLimit()}.
+     *
+     * @param descriptor current descriptor of the service
+     * @param labels labels attached to the service
+     * @return {@code true} if the service matches
+     */
+    public boolean matches(ServiceDescriptor descriptor, Set<String> labels) {
+        return (states.isEmpty() || states.contains(descriptor.getServiceState()))
+            && (namePrefix == null || descriptor.getModuleServiceName().startsWith(namePrefix))
+            && (label == null || labels.contains(label));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues().add("states", states).add("namePrefix", namePrefix)
+            .add("label", label).add("offset", offset).add("limit", limit).toString();
+    }
+}
@@ -7,6 +7,10 @@
  */
 package org.opendaylight.infrautils.diagstatus;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
 /**
  * A registration of a diagstatus "Service".
  *
@@ -15,6 +19,20 @@ package org.opendaylight.infrautils.diagstatus;
  * @author Michael Vorburger.ch
  */
 public interface ServiceRegistration extends AutoCloseable {
+    /**
+     * Return the identifier the service has been registered with.
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}, so that registrations which predate
+     * this method remain compatible. Such registrations do not support the default
+     * {@link #report(ServiceState, String)} either, as it needs the identifier.
+     *
+     * @return service identifier
+     * @throws UnsupportedOperationException if this registration does not expose its identifier
+     */
+    default String getServiceIdentifier() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not expose its service identifier");
+    }
+
     /**
      * Report the status of the registered service.
      *
@@ -24,6 +42,45 @@ public interface ServiceRegistration extends AutoCloseable {
      */
     void report(ServiceDescriptor serviceDescriptor);
 
+    /**
+     * Report the status of the registered service, without an error cause. Unlike
+     * {@link #report(ServiceDescriptor)}, this method allows implementations to skip any work when the status has not
+     * changed since the last report, which makes it suitable for services reporting their status very frequently. In
+     * that case the timestamp of the current {@link ServiceDescriptor} is not refreshed, and hence marks the last
+     * change of status rather than the last report.
+     *
+     * <p>The default implementation always reports a new {@link ServiceDescriptor}, named after
+     * {@link #getServiceIdentifier()}.
+     *
+     * @param state state of the service
+     * @param statusDesc description of the status
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalStateException if this registration has been {@link #close()}d
+     * @throws UnsupportedOperationException if this registration does not expose its
+     *         {@link #getServiceIdentifier() identifier}
+     */
+    default void report(ServiceState state, String statusDesc) {
+        report(new ServiceDescriptor(getServiceIdentifier(), state, statusDesc));
+    }
+
+    /**
+     * Attach labels to the registered service, replacing any attached before. Labels are free-form tags, such as the
+     * name of the component providing the service, by which {@link DiagStatusService#queryServiceDescriptors}
+     * can select services.
+     *
+     * <p>The default implementation ignores the labels, which matches what the default
+     * {@link DiagStatusService#queryServiceDescriptors} does with them.
+     *
+     * @param labels labels to attach, empty to detach all
+     * @throws NullPointerException if {@code labels} is, or contains, {@code null}
+     * @throws IllegalStateException if this registration has been {@link #close()}d
+     */
+    default void setLabels(Set<String> labels) {
+        for (var label : labels) {
+            requireNonNull(label);
+        }
+    }
+
     @Override
     void close();
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Recent {@link ServiceState} transitions of a single service. Only a bounded number of the most recent transitions is
+ * retained, hence {@link #getTransitionCount()} may be larger than the number of {@link #getTransitions()}.
+ */
+@Immutable
+public final class ServiceStatusHistory {
+    /**
+     * A single transition.
+     */
+    @Immutable
+    public static final class Transition {
+        private final Instant timestamp;
+        private final @Nullable ServiceState from;
+        private final ServiceState to;
+        private final String statusDesc;
+
+        public Transition(Instant timestamp, @Nullable ServiceState from, ServiceState to, String statusDesc) {
+            this.timestamp = requireNonNull(timestamp);
+            this.from = from;
+            this.to = requireNonNull(to);
+            this.statusDesc = requireNonNull(statusDesc);
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Return the state before this transition.
+         *
+         * @return previous state, {@code null} if the service has just been registered
+         */
+        public @Nullable ServiceState getFrom() {
+            return from;
+        }
+
+        public ServiceState getTo() {
+            return to;
+        }
+
+        public String getStatusDesc() {
+            return statusDesc;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("timestamp", timestamp).add("from", from).add("to", to)
+                .add("statusDesc", statusDesc).toString();
+        }
+    }
+
+    private final String serviceName;
+    private final boolean flapping;
+    private final long transitionCount;
+    private final ImmutableList<Transition> transitions;
+
+    public ServiceStatusHistory(String serviceName, boolean flapping, long transitionCount,
+            List<Transition> transitions) {
+        this.serviceName = requireNonNull(serviceName);
+        this.flapping = flapping;
+        this.transitionCount = transitionCount;
+        this.transitions = ImmutableList.copyOf(transitions);
+    }
+
+    /**
+     * Write the JSON representation of the specified histories to a {@link Writer}. The writer is flushed, but not
+     * closed.
+     *
+     * @param histories histories to write
+     * @param writer writer to write to
+     * @param pretty {@code true} to pretty-print, {@code false} for compact output
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeJSON(Collection<ServiceStatusHistory> histories, Writer writer, boolean pretty)
+            throws IOException {
+        var gson = Gsons.of(pretty);
+        var jsonWriter = gson.newJsonWriter(writer);
+        try {
+            jsonWriter.beginArray();
+            for (var history : histories) {
+                gson.toJson(history, ServiceStatusHistory.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        jsonWriter.flush();
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Return {@code true} if the service has been changing its state more often than the {@link DiagStatusService}
+     * considers healthy.
+     *
+     * @return {@code true} if the service is flapping
+     */
+    public boolean isFlapping() {
+        return flapping;
+    }
+
+    /**
+     * Return the total number of transitions since the service was registered.
+     *
+     * @return total number of transitions
+     */
+    public long getTransitionCount() {
+        return transitionCount;
+    }
+
+    /**
+     * Return the most recent transitions, oldest first.
+     *
+     * @return recent transitions
+     */
+    public List<Transition> getTransitions() {
+        return transitions;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("serviceName", serviceName).add("flapping", flapping)
+            .add("transitionCount", transitionCount).add("transitions", transitions).toString();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import java.util.Date;
+import javax.management.AttributeChangeNotification;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Status of a single registered service, exposed over JMX with typed attributes. One such bean is registered for each
+ * service, named {@value #JMX_OBJECT_NAME_PREFIX} followed by {@code ,name=} and the
+ * {@link javax.management.ObjectName#quote(String) quoted} service name.
+ *
+ * <p>Each bean emits an {@link AttributeChangeNotification} for its {@code State} attribute whenever the service
+ * changes its {@link ServiceState}, so that JMX clients can subscribe to transitions instead of polling.
+ */
+public interface ServiceStatusMXBean {
+
+    String JMX_OBJECT_NAME_PREFIX = "org.opendaylight.infrautils.diagstatus:type=Service";
+
+    String getServiceName();
+
+    /**
+     * Return the current state of the service.
+     *
+     * @return current state, {@link ServiceState#UNREGISTERED} if the service is no longer registered
+     */
+    ServiceState getState();
+
+    String getStatusDescription();
+
+    /**
+     * Return the time at which the service last reported its status.
+     *
+     * @return time of last report, {@code null} if the service is no longer registered
+     */
+    @Nullable Date getLastReportTime();
+
+    /**
+     * Return the number of state transitions of the service, including its registration.
+     *
+     * @return number of state transitions
+     */
+    long getTransitionCount();
+}
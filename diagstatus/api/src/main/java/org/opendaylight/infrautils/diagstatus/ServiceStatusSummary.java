@@ -7,12 +7,20 @@
  */
 package org.opendaylight.infrautils.diagstatus;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.common.io.ByteSource;
+import com.google.errorprone.annotations.Var;
+import com.google.gson.JsonIOException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.infrautils.ready.SystemState;
 
 /**
@@ -22,33 +30,122 @@ import org.opendaylight.infrautils.ready.SystemState;
  */
 public final class ServiceStatusSummary {
 
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeNulls()
-            .registerTypeAdapterFactory(ThrowableAdapterFactory.INSTANCE)
-            .registerTypeAdapter(Instant.class, new InstantSerializer())
-            .registerTypeAdapter(Instant.class, new InstantDeserializer())
-            .create();
-
     private final Instant timeStamp;
     private final boolean isOperational;
     private final SystemState systemReadyState;
     private final String systemReadyStateErrorCause;
     private final Set<ServiceDescriptor> statusSummary;
+    // not serialized: these are properties of this instance, not of the system it describes
+    private final transient long version;
+    private transient volatile @Nullable ByteSource json;
 
+    /**
+     * Read a summary from its JSON form, as produced by {@link #toJSON()}. Error causes of the services are not
+     * recreated as instances of their original types, but as summaries retaining their type names, messages, causes
+     * and suppressed exceptions, the same as {@link ServiceDescriptor#getErrorCause()} reports for a local service.
+     *
+     * @param json JSON form
+     * @return the summary, {@code null} if {@code json} is empty or the JSON {@code null}
+     */
     public static ServiceStatusSummary fromJSON(String json) {
-        return GSON.fromJson(json, ServiceStatusSummary.class);
+        return Gsons.PRETTY.fromJson(json, ServiceStatusSummary.class);
     }
 
     public ServiceStatusSummary(boolean isOperational, SystemState systemState, String systemReadyErrorCause,
                                 Set<ServiceDescriptor> statusSummary) {
+        this(isOperational, systemState, systemReadyErrorCause, statusSummary, 0);
+    }
+
+    /**
+     * Construct a versioned summary. Two summaries with the same non-zero version obtained from the same
+     * {@link DiagStatusService} instance are guaranteed to be the same, which allows them to be cached.
+     *
+     * @param isOperational whether the system is operational
+     * @param systemState state of the system
+     * @param systemReadyErrorCause cause of system readiness failure
+     * @param statusSummary service descriptors
+     * @param version version of this summary, 0 if it is not versioned
+     */
+    public ServiceStatusSummary(boolean isOperational, SystemState systemState, String systemReadyErrorCause,
+                                Set<ServiceDescriptor> statusSummary, long version) {
         this.timeStamp = Instant.now();
         this.isOperational = isOperational;
         this.systemReadyState = systemState;
         this.statusSummary = statusSummary;
         this.systemReadyStateErrorCause = systemReadyErrorCause;
+        this.version = version;
     }
 
+    /**
+     * Return the pretty-printed JSON representation of this summary.
+     *
+     * @return JSON representation
+     */
     public String toJSON() {
-        return GSON.toJson(this);
+        return Gsons.PRETTY.toJson(this);
+    }
+
+    /**
+     * Write the compact JSON representation of this summary, encoded in UTF-8, to an {@link OutputStream}. The encoded
+     * form is computed once and retained, so writing the same summary repeatedly costs only the copy.
+     *
+     * @param out stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeJSON(OutputStream out) throws IOException {
+        @Var var local = json;
+        if (local == null) {
+            // racy, but idempotent
+            var bytes = new ByteArrayOutputStream();
+            writeJSON(bytes, false);
+            local = ByteSource.wrap(bytes.toByteArray());
+            json = local;
+        }
+        local.copyTo(out);
+    }
+
+    /**
+     * Stream the JSON representation of this summary, encoded in UTF-8, to an {@link OutputStream}. The stream is
+     * flushed, but not closed.
+     *
+     * @param out stream to write to
+     * @param pretty {@code true} to pretty-print, as {@link #toJSON()} does, {@code false} for compact output
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeJSON(OutputStream out, boolean pretty) throws IOException {
+        writeJSON(new OutputStreamWriter(out, StandardCharsets.UTF_8), pretty);
+    }
+
+    /**
+     * Stream the JSON representation of this summary to a {@link Writer}, without building it in memory first. The
+     * writer is flushed, but not closed.
+     *
+     * @param writer writer to write to
+     * @param pretty {@code true} to pretty-print, as {@link #toJSON()} does, {@code false} for compact output
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeJSON(Writer writer, boolean pretty) throws IOException {
+        var gson = Gsons.of(pretty);
+        var jsonWriter = gson.newJsonWriter(writer);
+        try {
+            gson.toJson(this, ServiceStatusSummary.class, jsonWriter);
+        } catch (JsonIOException e) {
+            // Gson wraps I/O errors, unwrap them to honor our contract
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        jsonWriter.flush();
+    }
+
+    /**
+     * Return the version of this summary, as assigned by the {@link DiagStatusService} which produced it.
+     *
+     * @return version of this summary, 0 if it is not versioned
+     */
+    public long getVersion() {
+        return version;
     }
 
     public boolean isOperational() {
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.ready.SystemState;
+
+/**
+ * Append-only journal of {@link ServiceState} transitions and {@link SystemState} changes, kept in a fixed-size ring
+ * of fixed-size slots in a memory-mapped file. Entries are written straight into the mapping, without allocating, and
+ * end up in the file even if the JVM dies right after, so that the run-up to a crash can be examined afterwards with
+ * {@link #read(Path)}, or from the command line through {@link #main(String[])}. Once the ring is full, the oldest
+ * entries are overwritten.
+ *
+ * <p>Service names longer than {@value #MAX_NAME_LENGTH} characters are truncated. Instances are thread-safe.
+ */
+public final class StatusJournal implements AutoCloseable {
+    /**
+     * A single journal entry, either a service state transition or a system state change.
+     */
+    public static final class Entry {
+        private final long sequence;
+        private final Instant timestamp;
+        private final @Nullable String serviceName;
+        private final @Nullable ServiceState from;
+        private final @Nullable ServiceState to;
+        private final @Nullable SystemState systemState;
+
+        Entry(long sequence, Instant timestamp, @Nullable String serviceName, @Nullable ServiceState from,
+                @Nullable ServiceState to, @Nullable SystemState systemState) {
+            this.sequence = sequence;
+            this.timestamp = requireNonNull(timestamp);
+            this.serviceName = serviceName;
+            this.from = from;
+            this.to = to;
+            this.systemState = systemState;
+        }
+
+        /**
+         * Return the sequence number of this entry, which increases by one with each entry written to the journal.
+         *
+         * @return sequence number
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Return the name of the service which changed its state.
+         *
+         * @return service name, {@code null} if this entry records a {@link SystemState} change
+         */
+        public @Nullable String getServiceName() {
+            return serviceName;
+        }
+
+        /**
+         * Return the state the service changed from.
+         *
+         * @return previous state, {@code null} if the service has just been registered or this entry records a
+         *         {@link SystemState} change
+         */
+        public @Nullable ServiceState getFrom() {
+            return from;
+        }
+
+        /**
+         * Return the state the service changed to.
+         *
+         * @return new state, {@code null} if this entry records a {@link SystemState} change
+         */
+        public @Nullable ServiceState getTo() {
+            return to;
+        }
+
+        /**
+         * Return the system state the system changed to.
+         *
+         * @return new system state, {@code null} if this entry records a service state transition
+         */
+        public @Nullable SystemState getSystemState() {
+            return systemState;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues().add("sequence", sequence)
+                .add("timestamp", timestamp).add("serviceName", serviceName).add("from", from).add("to", to)
+                .add("systemState", systemState).toString();
+        }
+
+        /**
+         * Format this entry as a single line of text.
+         *
+         * @return formatted entry
+         */
+        public String format() {
+            return systemState != null ? timestamp + " #" + sequence + " system " + systemState
+                : timestamp + " #" + sequence + " " + serviceName + " " + from + " -> " + to;
+        }
+    }
+
+    public static final int MAX_NAME_LENGTH = 52;
+
+    // File header: magic, format version, slot size, capacity
+    private static final int MAGIC = 0x44534A31;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    // Slot layout, the sequence number is written last and is 0 while the slot is being written. It is accessed through
+    // SEQUENCE_HANDLE, so that a reader which sees it also sees the rest of the slot.
+    private static final int SEQUENCE = 0;
+    private static final int TIMESTAMP = 8;
+    private static final int KIND = 16;
+    private static final int FROM = 17;
+    private static final int TO = 18;
+    private static final int NAME_LENGTH = 19;
+    private static final int NAME = 24;
+    private static final int SLOT_SIZE = NAME + 2 * MAX_NAME_LENGTH;
+
+    /**
+     * Maximum number of entries a journal can retain, as a journal is mapped as a single buffer of at most 2 GiB.
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+
+    private static final byte KIND_SERVICE = 0;
+    private static final byte KIND_SYSTEM = 1;
+    private static final byte NONE = -1;
+
+    private static final VarHandle SEQUENCE_HANDLE =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final ServiceState[] SERVICE_STATES = ServiceState.values();
+    private static final SystemState[] SYSTEM_STATES = SystemState.values();
+
+    private final AtomicLong nextSequence;
+    private final MappedByteBuffer buffer;
+    private final Path file;
+    private final int capacity;
+
+    private volatile boolean closed;
+
+    private StatusJournal(Path file, MappedByteBuffer buffer, int capacity, long nextSequence) {
+        this.file = requireNonNull(file);
+        this.buffer = requireNonNull(buffer);
+        this.capacity = capacity;
+        this.nextSequence = new AtomicLong(nextSequence);
+    }
+
+    /**
+     * Open a journal for writing. An existing journal with the same capacity is appended to, anything else is
+     * replaced by an empty journal.
+     *
+     * @param file journal file
+     * @param capacity number of entries retained
+     * @return open journal
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if {@code capacity} is not positive or exceeds {@link #MAX_CAPACITY}
+     */
+    public static StatusJournal open(Path file, int capacity) throws IOException {
+        checkArgument(capacity > 0 && capacity <= MAX_CAPACITY, "Invalid capacity %s", capacity);
+        var size = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            var reuse = channel.size() == size && capacity == readCapacity(channel, size);
+            if (!reuse) {
+                channel.truncate(0);
+            }
+            // the mapping remains valid after the channel is closed
+            var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+            @Var long lastSequence = 0;
+            if (reuse) {
+                for (int slot = 0; slot < capacity; slot++) {
+                    lastSequence = Math.max(lastSequence, buffer.getLong(HEADER_SIZE + slot * SLOT_SIZE + SEQUENCE));
+                }
+            } else {
+                buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, SLOT_SIZE).putInt(12, capacity);
+            }
+            return new StatusJournal(file, buffer, capacity, lastSequence + 1);
+        }
+    }
+
+    /**
+     * Read all entries retained in a journal, oldest first.
+     *
+     * @param file journal file
+     * @return retained entries
+     * @throws IOException if the file cannot be read, or is not a journal
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var size = channel.size();
+            var capacity = readCapacity(channel, size);
+            if (capacity <= 0) {
+                throw new IOException(file + " is not a diagstatus journal");
+            }
+            var buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            var entries = new ArrayList<Entry>();
+            for (int slot = 0; slot < capacity; slot++) {
+                var entry = readSlot(buffer, HEADER_SIZE + slot * SLOT_SIZE, slot, capacity);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort(Comparator.comparingLong(Entry::getSequence));
+            return entries;
+        }
+    }
+
+    /**
+     * Print the entries of a journal, oldest first.
+     *
+     * @param args path to the journal file
+     * @throws IOException if the file cannot be read, or is not a journal
+     * @throws IllegalArgumentException if not invoked with exactly one argument
+     */
+    @SuppressWarnings("checkstyle:RegexpSinglelineJava")
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length == 1, "Usage: %s <journal file>", StatusJournal.class.getName());
+        for (var entry : read(Path.of(args[0]))) {
+            System.out.println(entry.format());
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Record a service state transition.
+     *
+     * @param serviceName name of the service
+     * @param from previous state, {@code null} if the service has just been registered
+     * @param to new state
+     */
+    public void recordServiceTransition(String serviceName, @Nullable ServiceState from, ServiceState to) {
+        if (closed) {
+            return;
+        }
+        var sequence = nextSequence.getAndIncrement();
+        var offset = beginSlot(sequence);
+        buffer.put(offset + KIND, KIND_SERVICE);
+        buffer.put(offset + FROM, from != null ? (byte) from.ordinal() : NONE);
+        buffer.put(offset + TO, (byte) to.ordinal());
+        var length = Math.min(serviceName.length(), MAX_NAME_LENGTH);
+        buffer.put(offset + NAME_LENGTH, (byte) length);
+        for (int i = 0; i < length; i++) {
+            buffer.putChar(offset + NAME + 2 * i, serviceName.charAt(i));
+        }
+        // publish the slot
+        SEQUENCE_HANDLE.setRelease(buffer, offset + SEQUENCE, sequence);
+    }
+
+    /**
+     * Record a system state change.
+     *
+     * @param systemState new system state
+     */
+    public void recordSystemState(SystemState systemState) {
+        if (closed) {
+            return;
+        }
+        var sequence = nextSequence.getAndIncrement();
+        var offset = beginSlot(sequence);
+        buffer.put(offset + KIND, KIND_SYSTEM);
+        buffer.put(offset + FROM, NONE);
+        buffer.put(offset + TO, (byte) systemState.ordinal());
+        buffer.put(offset + NAME_LENGTH, (byte) 0);
+        // publish the slot
+        SEQUENCE_HANDLE.setRelease(buffer, offset + SEQUENCE, sequence);
+    }
+
+    /**
+     * Flush the journal to storage and stop recording. The journal is written to the file even if it is not closed,
+     * closing it only makes sure it also survives an operating system crash.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        buffer.force();
+    }
+
+    private int beginSlot(long sequence) {
+        var offset = HEADER_SIZE + (int) ((sequence - 1) % capacity) * SLOT_SIZE;
+        // invalidate the slot first, so that a reader never mistakes a half-written slot for a complete one
+        SEQUENCE_HANDLE.setOpaque(buffer, offset + SEQUENCE, 0L);
+        VarHandle.storeStoreFence();
+        buffer.putLong(offset + TIMESTAMP, System.currentTimeMillis());
+        return offset;
+    }
+
+    private static int readCapacity(FileChannel channel, long size) throws IOException {
+        if (size < HEADER_SIZE) {
+            return 0;
+        }
+        var header = ByteBuffer.allocate(16);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // keep reading
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getInt(8) != SLOT_SIZE) {
+            return 0;
+        }
+        var capacity = header.getInt(12);
+        return capacity > 0 && capacity <= MAX_CAPACITY && size == HEADER_SIZE + (long) capacity * SLOT_SIZE ? capacity
+            : 0;
+    }
+
+    private static @Nullable Entry readSlot(ByteBuffer buffer, int offset, int slot, int capacity) {
+        var sequence = (long) SEQUENCE_HANDLE.getAcquire(buffer, offset + SEQUENCE);
+        // an empty or half-written slot, or garbage
+        if (sequence <= 0 || (sequence - 1) % capacity != slot) {
+            return null;
+        }
+        var timestamp = Instant.ofEpochMilli(buffer.getLong(offset + TIMESTAMP));
+        var kind = buffer.get(offset + KIND);
+        var from = buffer.get(offset + FROM);
+        var to = buffer.get(offset + TO);
+        if (kind == KIND_SYSTEM) {
+            return to >= 0 && to < SYSTEM_STATES.length && unchanged(buffer, offset, sequence)
+                ? new Entry(sequence, timestamp, null, null, null, SYSTEM_STATES[to]) : null;
+        }
+        var length = buffer.get(offset + NAME_LENGTH);
+        if (kind != KIND_SERVICE || to < 0 || to >= SERVICE_STATES.length || from >= SERVICE_STATES.length
+                || length < 0 || length > MAX_NAME_LENGTH) {
+            return null;
+        }
+        var name = new char[length];
+        for (int i = 0; i < length; i++) {
+            name[i] = buffer.getChar(offset + NAME + 2 * i);
+        }
+        return unchanged(buffer, offset, sequence) ? new Entry(sequence, timestamp, new String(name),
+            from >= 0 ? SERVICE_STATES[from] : null, SERVICE_STATES[to], null) : null;
+    }
+
+    private static boolean unchanged(ByteBuffer buffer, int offset, long sequence) {
+        // the slot may have been overwritten while we were reading it
+        VarHandle.loadLoadFence();
+        return (long) SEQUENCE_HANDLE.getOpaque(buffer, offset + SEQUENCE) == sequence;
+    }
+}
@@ -9,7 +9,6 @@ package org.opendaylight.infrautils.diagstatus;
 
 import com.google.errorprone.annotations.Var;
 import com.google.gson.Gson;
-import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
@@ -17,9 +16,13 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 
+/**
+ * Reads and writes {@link Throwable}s as their type's simple name, message, cause and suppressed exceptions. The type
+ * name is not resolved when reading, every {@link Throwable} read is a {@link ThrowableSummary} reporting that name,
+ * never an instance of the original type, not even for {@code java.lang} types.
+ */
 final class ThrowableAdapterFactory implements TypeAdapterFactory {
     public static final ThrowableAdapterFactory INSTANCE = new ThrowableAdapterFactory();
 
@@ -78,25 +81,10 @@ final class ThrowableAdapterFactory implements TypeAdapterFactory {
                 }
                 in.endObject();
 
-                // Create the appropriate exception instance based on the type name
-                if (exceptionType != null && !exceptionType.isEmpty()) {
-                    try {
-                        var exceptionClass = Class.forName("java.lang." + exceptionType);
-                        var constructor = exceptionClass.getConstructor(String.class, Throwable.class);
-                        var throwable = (Throwable) constructor.newInstance(message, cause);
-                        suppressed.forEach(throwable::addSuppressed);
-                        return throwable;
-                    } catch (ClassNotFoundException e) {
-                        throw new JsonParseException("Failed to create Throwable instance: Class not found", e);
-                    } catch (NoSuchMethodException e) {
-                        throw new JsonParseException("Failed to create Throwable instance: Constructor not found", e);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        throw new JsonParseException("Failed to create Throwable instance: Instantiation error", e);
-                    }
-                } else {
-                    // If type is not available, create a generic Throwable with the message
-                    return new Throwable(message, cause);
-                }
+                // The type need not be known here, nor have a suitable constructor; if it is not available, report it
+                // as a generic Throwable
+                return ThrowableSummary.of(exceptionType != null && !exceptionType.isEmpty() ? exceptionType
+                    : "Throwable", message, cause, suppressed);
             }
 
             @Override
@@ -110,7 +98,8 @@ final class ThrowableAdapterFactory implements TypeAdapterFactory {
                 // Include exception type name to give more context; for example NullPointerException might
                 // not have a message
                 out.name("type");
-                out.value(value.getClass().getSimpleName());
+                out.value(value instanceof ThrowableSummary summary ? summary.getSimpleTypeName()
+                    : value.getClass().getSimpleName());
 
                 out.name("message");
                 out.value(value.getMessage());
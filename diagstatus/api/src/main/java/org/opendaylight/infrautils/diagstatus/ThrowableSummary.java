@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A compact, detached copy of a {@link Throwable} reported as the error cause of a {@link ServiceDescriptor}. It
+ * retains the type name, the message, the top of the stack trace and the first few causes and suppressed exceptions,
+ * all of them bounded in size, but no reference to the original, so a reported error does not pin the object graph
+ * reachable from it. It is created once per report, hence serializing it costs the same no matter how large the
+ * original was.
+ */
+// package-local not public (for the time being)
+final class ThrowableSummary extends Throwable {
+    static final int MAX_DEPTH = 8;
+    static final int MAX_SUPPRESSED = 4;
+    static final int MAX_THROWABLES = 16;
+    static final int MAX_FRAMES = 32;
+    static final int MAX_MESSAGE_LENGTH = 1024;
+
+    private static final long serialVersionUID = 1L;
+
+    private final String typeName;
+    private final String simpleTypeName;
+
+    private ThrowableSummary(String typeName, String simpleTypeName, @Nullable String message,
+            @Nullable ThrowableSummary cause) {
+        super(message, cause);
+        this.typeName = requireNonNull(typeName);
+        this.simpleTypeName = requireNonNull(simpleTypeName);
+    }
+
+    /**
+     * Return the summary of specified {@link Throwable}, or the {@link Throwable} itself if it already is one.
+     *
+     * @param throwable the {@link Throwable} to summarize
+     * @return a summary
+     */
+    static ThrowableSummary of(Throwable throwable) {
+        return throwable instanceof ThrowableSummary summary ? summary
+            : summarize(throwable, 0, new int[] { MAX_THROWABLES });
+    }
+
+    /**
+     * Create a summary from its parts, as read from its serialized form.
+     *
+     * @param typeName simple name of the original type
+     * @param message message, may be null
+     * @param cause summarized cause, may be null
+     * @param suppressed summarized suppressed exceptions
+     * @return a summary
+     */
+    static ThrowableSummary of(String typeName, @Nullable String message, @Nullable Throwable cause,
+            List<Throwable> suppressed) {
+        var summary = new ThrowableSummary(typeName, typeName, truncate(message), cause == null ? null : of(cause));
+        suppressed.stream().limit(MAX_SUPPRESSED).forEach(item -> summary.addSuppressed(of(item)));
+        return summary;
+    }
+
+    private static ThrowableSummary summarize(Throwable throwable, int depth, int[] budget) {
+        budget[0]--;
+        var cause = throwable.getCause();
+        var summary = new ThrowableSummary(throwable.getClass().getName(), throwable.getClass().getSimpleName(),
+            truncate(throwable.getMessage()),
+            cause != null && depth < MAX_DEPTH && budget[0] > 0 ? summarize(cause, depth + 1, budget) : null);
+
+        var frames = throwable.getStackTrace();
+        summary.setStackTrace(frames.length > MAX_FRAMES ? Arrays.copyOf(frames, MAX_FRAMES) : frames);
+
+        @Var int count = 0;
+        for (var suppressed : throwable.getSuppressed()) {
+            if (count++ == MAX_SUPPRESSED || depth == MAX_DEPTH || budget[0] <= 0) {
+                break;
+            }
+            summary.addSuppressed(summarize(suppressed, depth + 1, budget));
+        }
+        return summary;
+    }
+
+    private static @Nullable String truncate(@Nullable String message) {
+        return message == null || message.length() <= MAX_MESSAGE_LENGTH ? message
+            : message.substring(0, MAX_MESSAGE_LENGTH) + "...";
+    }
+
+    /**
+     * Return the simple name of the original type, as {@link Class#getSimpleName()} would.
+     *
+     * @return simple type name
+     */
+    String getSimpleTypeName() {
+        return simpleTypeName;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // The stack trace of interest is the original's, not the one of the thread creating the summary
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof ThrowableSummary other && typeName.equals(other.typeName)
+            && Objects.equals(getMessage(), other.getMessage()) && Objects.equals(getCause(), other.getCause())
+            && Arrays.equals(getStackTrace(), other.getStackTrace())
+            && Arrays.equals(getSuppressed(), other.getSuppressed());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(typeName, getMessage(), getCause());
+    }
+
+    @Override
+    public String toString() {
+        var message = getMessage();
+        return message == null ? typeName : typeName + ": " + message;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wakes up parties waiting for the next change. Each waiter gets its own future, which is completed from a dedicated
+ * thread, so that whoever signals a change never runs waiters' callbacks. A waiter which gives up cancels its future,
+ * which forgets about it right away, hence waiters which time out do not pile up between changes. Signals arriving
+ * while a wake-up is already pending are coalesced, hence signalling is cheap and the amount of queued work is bounded
+ * no matter how often it happens. When nobody waits, signalling costs a single emptiness check.
+ */
+// package-local not public (for the time being)
+final class ChangeNotifier implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeNotifier.class);
+
+    private final Set<SettableFuture<Void>> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Created when the first waiter arrives, guarded by this
+    private volatile @Nullable ExecutorService executor;
+    private boolean closed;
+
+    /**
+     * Return a future which completes after the next {@link #changed()}. Callers must obtain the future before
+     * checking whether what they are waiting for has already happened, otherwise they may miss a wake-up.
+     *
+     * @return a future private to the caller, which should be cancelled if the caller stops waiting for it
+     */
+    ListenableFuture<Void> nextChange() {
+        var waiter = SettableFuture.<Void>create();
+        if (!addWaiter(waiter)) {
+            return Futures.immediateCancelledFuture();
+        }
+        // forget the waiter as soon as it is done, in particular when it is cancelled
+        waiter.addListener(() -> waiters.remove(waiter), MoreExecutors.directExecutor());
+        return waiter;
+    }
+
+    /**
+     * Signal a change. Must be invoked after the change has been made visible.
+     */
+    void changed() {
+        if (!waiters.isEmpty() && scheduled.compareAndSet(false, true)) {
+            var local = executor;
+            if (local != null) {
+                try {
+                    local.execute(this::fire);
+                } catch (RejectedExecutionException e) {
+                    // we have been closed, there is nobody left to notify
+                    LOG.trace("Change notification rejected", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        var local = executor;
+        if (local != null) {
+            Executors.shutdownAndAwaitTermination(local);
+        }
+        for (var waiter : waiters) {
+            waiter.cancel(false);
+        }
+    }
+
+    private synchronized boolean addWaiter(SettableFuture<Void> waiter) {
+        if (closed) {
+            return false;
+        }
+        if (executor == null) {
+            executor = Executors.newListeningSingleThreadExecutor("diagstatus-notifier", LOG);
+        }
+        waiters.add(waiter);
+        return true;
+    }
+
+    private void fire() {
+        // Clear the flag first: a change arriving while we complete the futures schedules another round
+        scheduled.set(false);
+        for (var waiter : waiters) {
+            // completion removes the waiter from the set
+            waiter.set(null);
+        }
+    }
+}
@@ -8,123 +8,975 @@
  */
 package org.opendaylight.infrautils.diagstatus.internal;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 import static org.opendaylight.infrautils.diagstatus.ServiceState.STARTING;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import java.util.Collection;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.errorprone.annotations.Var;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.AsyncServiceStatusProvider;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListener;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListenerRegistration;
 import org.opendaylight.infrautils.diagstatus.DiagStatusService;
 import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorPage;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorQuery;
 import org.opendaylight.infrautils.diagstatus.ServiceRegistration;
 import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusHistory;
 import org.opendaylight.infrautils.diagstatus.ServiceStatusProvider;
 import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.diagstatus.StatusJournal;
+import org.opendaylight.infrautils.ready.SystemReadyListener;
 import org.opendaylight.infrautils.ready.SystemReadyMonitor;
 import org.opendaylight.infrautils.ready.SystemState;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * DiagStatusServiceImpl is the core class having the functionality for tracking the registered services
  * and aggregating the status of the same.
+ *
+ * <p>By default all {@link ServiceStatusProvider}s are polled on each query. If a refresh interval is configured, they
+ * are instead polled by a background thread at that interval, and queries are answered from the last snapshot without
+ * ever calling a provider. If a provider timeout is configured, providers are polled concurrently and those which do
+ * not answer in time are reported as {@link ServiceState#SUSPECTED}, so that a single slow provider cannot hold up
+ * queries. {@link AsyncServiceStatusProvider}s do not need a thread while being waited for, and are waited for at most
+ * 10 seconds even without a provider timeout. They are reported with their last known state, marked as stale, if they
+ * do not answer in time or their check fails. Once that state is older than the configured stale limit, they are
+ * reported as {@link ServiceState#SUSPECTED} instead, and a check still pending is restarted.
+ *
+ * <p>{@link ServiceRegistration#report(ServiceState, String)} is answered without allocating anything as long as the
+ * status does not change, only the time of the last report being refreshed. Likewise, a provider reporting an
+ * unchanged status does not replace the service's descriptor. In both cases
+ * {@link ServiceDescriptor#getStatusTimestamp()} hence marks the last change of status, whereas the last report is
+ * available from {@link #getLastReportTime(String)}.
+ *
+ * <p>The number of services in each {@link ServiceState} is maintained as descriptors are updated, hence
+ * {@link #isOperational()} does not need to look at individual services, and {@link #isLastKnownOperational()} takes
+ * constant time. Without a {@link Settings#providerRefreshInterval() background refresh}, nothing would poll
+ * {@link ServiceStatusProvider}s on behalf of {@link #isLastKnownOperational()}, hence it kicks off an asynchronous
+ * refresh instead, which it does not wait for. Frequent callers, such as readiness probes, thus see provider changes
+ * one call late.
+ *
+ * <p>Service names are also indexed by {@link ServiceState} and by label, in name order, so that
+ * {@link #queryServiceDescriptors(ServiceDescriptorQuery)} only looks at services which may match.
+ *
+ * <p>The most recent state transitions of each service are retained in a fixed-size {@link TransitionHistory}, which
+ * is also used to detect services flapping between states.
+ *
+ * <p>If a journal file is configured, state transitions and {@link SystemState} changes are also recorded in a
+ * {@link StatusJournal}, which survives a crash of the JVM.
+ *
+ * <p>{@link DiagStatusListener}s are notified from a pool of threads, each listener having a queue of at most
+ * {@value #LISTENER_QUEUE_CAPACITY} pending notifications.
+ *
  * @author Faseela K
  */
 @Singleton
-@Component(immediate = true, service = DiagStatusService.class)
+@Component(immediate = true, service = DiagStatusService.class,
+    configurationPid = "org.opendaylight.infrautils.diagstatus")
+@Designate(ocd = DiagStatusServiceImpl.Config.class)
 public final class DiagStatusServiceImpl implements DiagStatusService, AutoCloseable {
+    @ObjectClassDefinition
+    public @interface Config {
+        @AttributeDefinition(name = "provider-refresh-interval-millis",
+            description = "Interval at which ServiceStatusProviders are polled in the background, 0 to poll them on "
+                + "each query, and asynchronously on each readiness probe")
+        long providerRefreshIntervalMillis() default 0;
+
+        @AttributeDefinition(name = "provider-timeout-millis",
+            description = "Time to wait for ServiceStatusProviders, which are then polled concurrently and reported as "
+                + "SUSPECTED if they do not respond in time, 0 to poll them one by one without a timeout (other than "
+                + "10 seconds for AsyncServiceStatusProviders)")
+        long providerTimeoutMillis() default 0;
+
+        @AttributeDefinition(name = "provider-stale-limit-millis",
+            description = "Time for which an AsyncServiceStatusProvider which does not respond within "
+                + "provider-timeout-millis, or fails, is reported with its last known state, after which it is "
+                + "reported as SUSPECTED and its pending check is restarted")
+        long providerStaleLimitMillis() default 60000;
+
+        @AttributeDefinition(name = "watchdog-tick-millis",
+            description = "Resolution at which missed heartbeats are detected")
+        long watchdogTickMillis() default 1000;
+
+        @AttributeDefinition(name = "flap-threshold",
+            description = "Number of state transitions within flap-window-millis which mark a service as flapping")
+        int flapThreshold() default 5;
+
+        @AttributeDefinition(name = "flap-window-millis",
+            description = "Time window over which state transitions are counted towards flap-threshold")
+        long flapWindowMillis() default 60000;
+
+        @AttributeDefinition(name = "journal-file",
+            description = "File into which state transitions are journaled, empty to not journal them")
+        String journalFile() default "";
+
+        @AttributeDefinition(name = "journal-capacity",
+            description = "Number of entries retained in journal-file, at most " + StatusJournal.MAX_CAPACITY)
+        int journalCapacity() default 4096;
+    }
+
+    /**
+     * Tuning parameters of a {@link DiagStatusServiceImpl}.
+     *
+     * @param providerRefreshInterval interval at which {@link ServiceStatusProvider}s are polled in the background,
+     *                                {@link Duration#ZERO} to poll them on each query, and asynchronously on each
+     *                                {@link #isLastKnownOperational()}
+     * @param providerTimeout time to wait for {@link ServiceStatusProvider}s, which are then polled concurrently and
+     *                        reported as {@link ServiceState#SUSPECTED} if they do not respond in time,
+     *                        {@link Duration#ZERO} to poll them one by one without a timeout, other than 10 seconds
+     *                        (or half of {@code providerStaleLimit}, if shorter) for
+     *                        {@link AsyncServiceStatusProvider}s
+     * @param providerStaleLimit time for which an {@link AsyncServiceStatusProvider} which does not respond within
+     *                           {@code providerTimeout}, or fails, is reported with its last known state, after
+     *                           which it is reported as {@link ServiceState#SUSPECTED} and its pending check is
+     *                           restarted
+     * @param watchdogTick resolution at which missed heartbeats are detected
+     * @param flapThreshold number of state transitions within {@code flapWindow} which mark a service as flapping
+     * @param flapWindow time window over which state transitions are counted towards {@code flapThreshold}
+     * @param journalFile file into which state transitions are journaled, {@code null} to not journal them
+     * @param journalCapacity number of entries retained in {@code journalFile}, at most
+     *                        {@link StatusJournal#MAX_CAPACITY}
+     */
+    public record Settings(Duration providerRefreshInterval, Duration providerTimeout, Duration providerStaleLimit,
+            Duration watchdogTick, int flapThreshold, Duration flapWindow, @Nullable Path journalFile,
+            int journalCapacity) {
+        public static final Settings DEFAULT = new Settings(Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1),
+            Duration.ofSeconds(1), 5, Duration.ofMinutes(1), null, 4096);
+
+        public Settings {
+            checkArgument(!providerRefreshInterval.isNegative(), "Negative refresh interval %s",
+                providerRefreshInterval);
+            checkArgument(!providerTimeout.isNegative(), "Negative provider timeout %s", providerTimeout);
+            checkArgument(providerStaleLimit.isPositive(), "Invalid provider stale limit %s", providerStaleLimit);
+            checkArgument(watchdogTick.isPositive(), "Invalid watchdog tick %s", watchdogTick);
+            checkArgument(flapThreshold > 1, "Invalid flap threshold %s", flapThreshold);
+            checkArgument(flapWindow.isPositive(), "Invalid flap window %s", flapWindow);
+            checkArgument(journalCapacity > 0 && journalCapacity <= StatusJournal.MAX_CAPACITY,
+                "Invalid journal capacity %s", journalCapacity);
+        }
+
+        public Settings withProviderRefreshInterval(Duration newProviderRefreshInterval) {
+            return new Settings(newProviderRefreshInterval, providerTimeout, providerStaleLimit, watchdogTick,
+                flapThreshold, flapWindow, journalFile, journalCapacity);
+        }
+
+        public Settings withProviderTimeout(Duration newProviderTimeout) {
+            return new Settings(providerRefreshInterval, newProviderTimeout, providerStaleLimit, watchdogTick,
+                flapThreshold, flapWindow, journalFile, journalCapacity);
+        }
+
+        public Settings withProviderStaleLimit(Duration newProviderStaleLimit) {
+            return new Settings(providerRefreshInterval, providerTimeout, newProviderStaleLimit, watchdogTick,
+                flapThreshold, flapWindow, journalFile, journalCapacity);
+        }
+
+        public Settings withWatchdogTick(Duration newWatchdogTick) {
+            return new Settings(providerRefreshInterval, providerTimeout, providerStaleLimit, newWatchdogTick,
+                flapThreshold, flapWindow, journalFile, journalCapacity);
+        }
+
+        public Settings withFlapDetection(int newFlapThreshold, Duration newFlapWindow) {
+            return new Settings(providerRefreshInterval, providerTimeout, providerStaleLimit, watchdogTick,
+                newFlapThreshold, newFlapWindow, journalFile, journalCapacity);
+        }
+
+        public Settings withJournal(@Nullable Path newJournalFile, int newJournalCapacity) {
+            return new Settings(providerRefreshInterval, providerTimeout, providerStaleLimit, watchdogTick,
+                flapThreshold, flapWindow, newJournalFile, newJournalCapacity);
+        }
+
+        static Settings of(Config config) {
+            var journalFile = config.journalFile();
+            return new Settings(Duration.ofMillis(config.providerRefreshIntervalMillis()),
+                Duration.ofMillis(config.providerTimeoutMillis()), Duration.ofMillis(config.providerStaleLimitMillis()),
+                Duration.ofMillis(config.watchdogTickMillis()), config.flapThreshold(),
+                Duration.ofMillis(config.flapWindowMillis()), journalFile.isEmpty() ? null : Path.of(journalFile),
+                config.journalCapacity());
+        }
+    }
+
+    /**
+     * Forwards {@link SystemReadyListener} notifications to a service until it is closed. The monitor retains its
+     * listeners, hence this keeps a closed service from being retained along with it.
+     */
+    private static final class SystemReadyForwarder implements SystemReadyListener {
+        volatile @Nullable DiagStatusServiceImpl service;
+
+        SystemReadyForwarder(DiagStatusServiceImpl service) {
+            this.service = service;
+        }
+
+        @Override
+        public void onSystemBootReady() {
+            var local = service;
+            if (local != null) {
+                local.systemStateChanged();
+            }
+        }
+    }
+
+    /**
+     * An immutable view of {@link #statusMap}, valid as long as {@link #version} has not moved past it.
+     */
+    private record Snapshot(long version, ImmutableSet<ServiceDescriptor> descriptors) {
+        static final Snapshot EMPTY = new Snapshot(0, ImmutableSet.of());
+    }
+
+    /**
+     * The last {@link ServiceStatusSummary} handed out, together with the inputs it was built from.
+     */
+    private record CachedSummary(long version, SystemState systemState, @Nullable String failureCause,
+            ServiceStatusSummary summary) {
+        boolean matches(long currentVersion, SystemState currentSystemState, @Nullable String currentFailureCause) {
+            return version == currentVersion && systemState == currentSystemState
+                && Objects.equals(failureCause, currentFailureCause);
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(DiagStatusServiceImpl.class);
+    private static final int LISTENER_QUEUE_CAPACITY = 1024;
+    // Number of transitions retained per service, unless more are needed to detect flapping
+    private static final int HISTORY_CAPACITY = 16;
 
     private final ConcurrentHashMap<String, ServiceDescriptor> statusMap = new ConcurrentHashMap<>();
+    // Only populated within statusMap computations on the same key
+    private final ConcurrentHashMap<String, TransitionHistory> histories = new ConcurrentHashMap<>();
+    // Secondary indexes of statusMap keys, so that queries need not look at every service. Entries are added before
+    // statusMap changes, hence an index may briefly list a key which does not match, and removed along with them.
+    private final ConcurrentSkipListSet<String> names = new ConcurrentSkipListSet<>();
+    private final ImmutableList<ConcurrentSkipListSet<String>> namesByState = Arrays.stream(ServiceState.values())
+        .map(state -> new ConcurrentSkipListSet<String>())
+        .collect(ImmutableList.toImmutableList());
+    private final ConcurrentHashMap<String, ConcurrentSkipListSet<String>> namesByLabel = new ConcurrentHashMap<>();
+    // Labels attached to statusMap keys, only modified within statusMap computations on the same key
+    private final ConcurrentHashMap<String, ImmutableSet<String>> labels = new ConcurrentHashMap<>();
+    // Time of the last report of statusMap keys, entries are added before statusMap changes and removed along with them
+    private final ConcurrentHashMap<String, LastReport> lastReports = new ConcurrentHashMap<>();
+    // Incremented after each modification of statusMap
+    private final AtomicLong version = new AtomicLong();
+    // Number of statusMap entries in each ServiceState, indexed by ordinal
+    private final AtomicIntegerArray stateCounts = new AtomicIntegerArray(ServiceState.values().length);
     private final SystemReadyMonitor systemReadyMonitor;
+    private final ServiceStatusProviderPoller poller;
+    private final HeartbeatWatchdog watchdog;
+    private final ChangeNotifier changeNotifier = new ChangeNotifier();
+    // Registered with systemReadyMonitor, which may retain it for as long as it lives
+    private final SystemReadyForwarder systemReadyListener = new SystemReadyForwarder(this);
+    private final ListenerDispatcher listeners;
+    private final @Nullable ScheduledExecutorService refresher;
+    // Set while a refresh requested by isLastKnownOperational() is pending, only used without refresher
+    private final AtomicBoolean probeRefreshPending = new AtomicBoolean();
+    private final @Nullable StatusJournal journal;
+    private final int historyCapacity;
+    private final int flapThreshold;
+    private final long flapWindowMillis;
 
     private volatile List<ServiceStatusProvider> serviceStatusProviders;
+    private final AtomicLong summaryVersion = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile @Nullable CachedSummary cachedSummary;
+    private volatile boolean closed;
+    // Created on first isLastKnownOperational() if there is no refresher, guarded by this
+    private @Nullable ExecutorService probeRefresher;
 
     @Inject
+    public DiagStatusServiceImpl(SystemReadyMonitor systemReadyMonitor,
+            List<ServiceStatusProvider> serviceStatusProviders) {
+        this(systemReadyMonitor, serviceStatusProviders, Settings.DEFAULT);
+    }
+
     @Activate
     public DiagStatusServiceImpl(@Reference SystemReadyMonitor systemReadyMonitor,
             @Reference(policyOption = ReferencePolicyOption.GREEDY, updated = "setServiceStatusProviders")
-            List<ServiceStatusProvider> serviceStatusProviders) {
+            List<ServiceStatusProvider> serviceStatusProviders, Config config) {
+        this(systemReadyMonitor, serviceStatusProviders, Settings.of(config));
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public DiagStatusServiceImpl(SystemReadyMonitor systemReadyMonitor,
+            List<ServiceStatusProvider> serviceStatusProviders, Settings settings) {
         this.systemReadyMonitor = requireNonNull(systemReadyMonitor);
-        LOG.info("Diagnostic Status Service started");
+        listeners = new ListenerDispatcher(() -> isOperational(systemReadyMonitor.getSystemState()),
+            LISTENER_QUEUE_CAPACITY);
+        historyCapacity = Math.max(HISTORY_CAPACITY, settings.flapThreshold());
+        flapThreshold = settings.flapThreshold();
+        flapWindowMillis = settings.flapWindow().toMillis();
+        poller = new ServiceStatusProviderPoller(settings.providerTimeout(), settings.providerStaleLimit());
+        watchdog = new HeartbeatWatchdog(settings.watchdogTick());
+        journal = openJournal(settings);
+        if (journal != null) {
+            // marks the start of this run
+            journal.recordSystemState(systemReadyMonitor.getSystemState());
+        }
         setServiceStatusProviders(serviceStatusProviders);
+        // the system state is part of the summary, hence becoming ready is a change, too
+        systemReadyMonitor.registerListener(systemReadyListener);
+
+        var interval = settings.providerRefreshInterval();
+        if (interval.isZero()) {
+            refresher = null;
+            LOG.info("Diagnostic Status Service started, refreshing providers on queries and asynchronously on probes");
+        } else {
+            refresher = Executors.newListeningSingleThreadScheduledExecutor("diagstatus-refresh", LOG);
+            // The task never fails and is stopped by shutting down the executor, there is nothing to learn from its
+            // Future
+            refresher.scheduleWithFixedDelay(this::refreshServiceStatusMap, 0, interval.toNanos(),
+                TimeUnit.NANOSECONDS);
+            LOG.info("Diagnostic Status Service started, refreshing providers every {}", interval);
+        }
+    }
+
+    private static @Nullable StatusJournal openJournal(Settings settings) {
+        var file = settings.journalFile();
+        if (file == null) {
+            return null;
+        }
+        try {
+            var opened = StatusJournal.open(file, settings.journalCapacity());
+            LOG.info("Journaling state transitions into {}", file);
+            return opened;
+        } catch (IOException e) {
+            // the journal is a diagnostic aid, do not fail because of it
+            LOG.warn("Failed to open journal {}, state transitions will not be journaled", file, e);
+            return null;
+        }
     }
 
     synchronized void setServiceStatusProviders(List<ServiceStatusProvider> serviceStatusProviders) {
         this.serviceStatusProviders = List.copyOf(serviceStatusProviders);
+        poller.retain(this.serviceStatusProviders);
     }
 
     @PreDestroy
     @Deactivate
     @Override
     public synchronized void close() {
+        // SystemReadyMonitor cannot forget listeners, make sure ours does not retain us
+        systemReadyListener.service = null;
+        closed = true;
+        if (refresher != null) {
+            Executors.shutdownAndAwaitTermination(refresher);
+        }
+        var localProbeRefresher = probeRefresher;
+        if (localProbeRefresher != null) {
+            Executors.shutdownAndAwaitTermination(localProbeRefresher);
+        }
+        poller.close();
+        watchdog.close();
+        changeNotifier.close();
+        listeners.close();
+        if (journal != null) {
+            journal.close();
+        }
         serviceStatusProviders = List.of();
         LOG.info("Diagnostic Status Service stopped");
     }
 
     @Override
     public ServiceRegistration register(String serviceIdentifier) {
-        statusMap.put(serviceIdentifier, new ServiceDescriptor(serviceIdentifier, STARTING, "INITIALIZING"));
+        return newRegistration(serviceIdentifier, new LastReport(), null);
+    }
+
+    @Override
+    public ServiceRegistration register(String serviceIdentifier, Duration heartbeatInterval) {
+        checkArgument(heartbeatInterval.isPositive(), "Invalid heartbeat interval %s", heartbeatInterval);
+        var lastReport = new LastReport();
+        var heartbeat = new Heartbeat(serviceIdentifier, heartbeatInterval, lastReport);
+        var registration = newRegistration(serviceIdentifier, lastReport, heartbeat);
+        watchdog.add(heartbeat);
+        return registration;
+    }
+
+    private ServiceRegistration newRegistration(String serviceIdentifier, LastReport lastReport,
+            @Nullable Heartbeat heartbeat) {
+        var initial = new ServiceDescriptor(serviceIdentifier, STARTING, "INITIALIZING");
+        lastReports.put(serviceIdentifier, lastReport);
+        statusMap.compute(serviceIdentifier, (key, value) -> counted(key, value, initial));
+        versionChanged();
         return new ServiceRegistration() {
+            @Override
+            public String getServiceIdentifier() {
+                return serviceIdentifier;
+            }
+
             @Override
             public void report(ServiceDescriptor serviceDescriptor) {
                 var checked = requireNonNull(serviceDescriptor);
-                var prev = statusMap.computeIfPresent(serviceIdentifier, (key, value) -> checked);
+                lastReport.nanos = System.nanoTime();
+                var prev = statusMap.computeIfPresent(serviceIdentifier,
+                    (key, value) -> counted(key, value, heartbeat == null ? checked : heartbeat.onReport(checked)));
                 if (prev == null) {
                     throw new IllegalStateException("Service already unregistered");
                 }
+                versionChanged();
+            }
+
+            @Override
+            public void report(ServiceState state, String statusDesc) {
+                requireNonNull(state);
+                requireNonNull(statusDesc);
+                // refresh the report time before looking at the status, so the watchdog cannot suspect us in between
+                lastReport.nanos = System.nanoTime();
+                var current = statusMap.get(serviceIdentifier);
+                if (current != null && current.getServiceState() == state && current.getStatusDesc().equals(statusDesc)
+                        && current.getErrorCause().isEmpty() && (heartbeat == null || !heartbeat.suspected)) {
+                    // nothing changed: skip creating a descriptor, and keep snapshots and summaries valid
+                    return;
+                }
+                report(new ServiceDescriptor(serviceIdentifier, state, statusDesc));
+            }
+
+            @Override
+            public void setLabels(Set<String> newLabels) {
+                var copy = ImmutableSet.copyOf(newLabels);
+                if (statusMap.computeIfPresent(serviceIdentifier, (key, value) -> labelled(key, value, copy)) == null) {
+                    throw new IllegalStateException("Service already unregistered");
+                }
             }
 
             @Override
             public void close() {
-                statusMap.remove(serviceIdentifier);
+                if (heartbeat != null) {
+                    heartbeat.cancelled = true;
+                }
+                var removed = new AtomicBoolean();
+                statusMap.computeIfPresent(serviceIdentifier, (key, value) -> {
+                    if (lastReports.get(key) != lastReport) {
+                        // the service has been registered again since, the entry is not ours to remove
+                        return value;
+                    }
+                    removed.set(true);
+                    return unregistered(key, value);
+                });
+                if (removed.get()) {
+                    versionChanged();
+                }
             }
         };
     }
 
     @Override
     public ServiceDescriptor getServiceDescriptor(String serviceIdentifier) {
-        updateServiceStatusMap();
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
         return statusMap.get(serviceIdentifier);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation does not poll {@link ServiceStatusProvider}s, whose last report is the last time they
+     * have answered a poll.
+     */
+    @Override
+    public Optional<Instant> getLastReportTime(String serviceIdentifier) {
+        var lastReport = lastReports.get(serviceIdentifier);
+        if (lastReport == null) {
+            return Optional.empty();
+        }
+        // convert from the monotonic clock, which is what we can afford to read on every report
+        return Optional.of(Instant.now().minusNanos(System.nanoTime() - lastReport.nanos));
+    }
+
     @Override
     public ImmutableSet<ServiceDescriptor> getAllServiceDescriptors() {
-        updateServiceStatusMap();
-        return ImmutableSet.copyOf(statusMap.values());
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
+        return currentDescriptors();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Summaries returned by this implementation are versioned: as long as neither the system state nor any service
+     * descriptor changes, the same instance is returned, so that its serialized form can be reused.
+     */
     @Override
     public ServiceStatusSummary getServiceStatusSummary() {
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
+
+        // Read the version first, so that any concurrent change invalidates what we are about to build
+        var currentVersion = version.get();
         var systemState = systemReadyMonitor.getSystemState();
-        var serviceDescriptors = getAllServiceDescriptors();
-        return new ServiceStatusSummary(isOperational(systemState, serviceDescriptors),
-                systemState, systemReadyMonitor.getFailureCause(), serviceDescriptors);
+        var failureCause = systemReadyMonitor.getFailureCause();
+        var cached = cachedSummary;
+        if (cached != null && cached.matches(currentVersion, systemState, failureCause)) {
+            return cached.summary;
+        }
+
+        var summary = new ServiceStatusSummary(isOperational(systemState), systemState, failureCause,
+            currentDescriptors(), summaryVersion.incrementAndGet());
+        cachedSummary = new CachedSummary(currentVersion, systemState, failureCause, summary);
+        return summary;
     }
 
-    // because other projects implementing ServiceStatusProvider may not run FindBugs, we null check anyway
-    private void updateServiceStatusMap() {
-        for (var serviceStatusProvider : serviceStatusProviders) {
-            var serviceDescriptor = serviceStatusProvider.getServiceDescriptor();
-            if (serviceDescriptor != null) {
-                statusMap.put(serviceDescriptor.getModuleServiceName(), serviceDescriptor);
-            } else {
-                LOG.warn("ServiceStatusProvider getServiceDescriptor() returned null: {}", serviceStatusProvider);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Changes reported by {@link ServiceStatusProvider}s are only noticed when they are polled, hence waiting for
+     * them is only useful with a non-zero {@link Settings#providerRefreshInterval()}.
+     */
+    @Override
+    public ListenableFuture<ServiceStatusSummary> awaitServiceStatusSummary(long sinceVersion) {
+        // Obtain the future before looking at the summary, so we cannot miss a change happening in between
+        var change = changeNotifier.nextChange();
+        var summary = getServiceStatusSummary();
+        if (summary.getVersion() > sinceVersion) {
+            // we are not waiting after all, do not leave the waiter behind
+            change.cancel(false);
+            return Futures.immediateFuture(summary);
+        }
+        // The future is private to this wait, cancelling the returned future cancels it, too
+        return Futures.transformAsync(change, unused -> awaitServiceStatusSummary(sinceVersion),
+            MoreExecutors.directExecutor());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation starts from the smallest applicable index: the services carrying the requested label, or
+     * those in the requested states, or all services, skipping to the requested name prefix in name order.
+     */
+    @Override
+    public ServiceDescriptorPage queryServiceDescriptors(ServiceDescriptorQuery query) {
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
+
+        var prefix = query.getNamePrefix();
+        var candidates = candidates(query);
+        var offset = query.getOffset();
+        var end = (long) offset + query.getLimit();
+        var page = ImmutableList.<ServiceDescriptor>builder();
+        @Var int total = 0;
+        for (var name : prefix == null ? candidates : candidates.tailSet(prefix, true)) {
+            if (prefix != null && !name.startsWith(prefix)) {
+                // names are sorted, hence no further name can match
+                break;
             }
+            var descriptor = statusMap.get(name);
+            if (descriptor != null && query.matches(descriptor, labels.getOrDefault(name, ImmutableSet.of()))) {
+                if (total >= offset && total < end) {
+                    page.add(descriptor);
+                }
+                total++;
+            }
+        }
+        return new ServiceDescriptorPage(offset, total, page.build());
+    }
+
+    private NavigableSet<String> candidates(ServiceDescriptorQuery query) {
+        var label = query.getLabel();
+        if (label != null) {
+            var labelled = namesByLabel.get(label);
+            return labelled != null ? labelled : ImmutableSortedSet.of();
+        }
+        var states = query.getStates();
+        if (states.isEmpty()) {
+            return names;
+        }
+        if (states.size() == 1) {
+            return namesByState.get(states.iterator().next().ordinal());
+        }
+        var union = new TreeSet<String>();
+        for (var state : states) {
+            union.addAll(namesByState.get(state.ordinal()));
+        }
+        return union;
+    }
+
+    @Override
+    public ImmutableList<ServiceStatusHistory> getAllServiceStatusHistories() {
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
+        var now = System.currentTimeMillis();
+        return histories.values().stream()
+            .map(history -> history.toHistory(now))
+            .sorted(Comparator.comparing(ServiceStatusHistory::getServiceName))
+            .collect(ImmutableList.toImmutableList());
+    }
+
+    @Override
+    public long getTransitionCount(String serviceIdentifier) {
+        var history = histories.get(serviceIdentifier);
+        return history != null ? history.count() : 0;
+    }
+
+    @Override
+    public boolean isFlapping(String serviceIdentifier) {
+        var history = histories.get(serviceIdentifier);
+        return history != null && history.isFlapping(System.currentTimeMillis());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Changes reported by {@link ServiceStatusProvider}s are only noticed when they are polled, hence listening for
+     * them is only useful with a non-zero {@link Settings#providerRefreshInterval()}.
+     */
+    @Override
+    public DiagStatusListenerRegistration registerListener(DiagStatusListener listener) {
+        return listeners.register(listener);
+    }
+
+    @Override
+    public boolean isOperational() {
+        if (refresher == null) {
+            updateServiceStatusMap();
+        }
+        return isOperational(systemReadyMonitor.getSystemState());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Without a non-zero {@link Settings#providerRefreshInterval()}, this also requests an asynchronous refresh of
+     * {@link ServiceStatusProvider}s, so that the next invocation sees what they report now.
+     */
+    @Override
+    public boolean isLastKnownOperational() {
+        if (refresher == null) {
+            requestProbeRefresh();
+        }
+        return isOperational(systemReadyMonitor.getSystemState());
+    }
+
+    private void requestProbeRefresh() {
+        // Coalesce requests arriving while a refresh is pending, those will see its results
+        if (probeRefreshPending.compareAndSet(false, true)) {
+            var executor = ensureProbeRefresher();
+            if (executor == null) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        refreshServiceStatusMap();
+                    } finally {
+                        probeRefreshPending.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // we are being closed, there is nothing left to refresh
+                LOG.trace("Provider refresh rejected", e);
+            }
+        }
+    }
+
+    private synchronized @Nullable ExecutorService ensureProbeRefresher() {
+        if (closed) {
+            return null;
+        }
+        @Var var local = probeRefresher;
+        if (local == null) {
+            local = Executors.newListeningSingleThreadExecutor("diagstatus-probe-refresh", LOG);
+            probeRefresher = local;
+        }
+        return local;
+    }
+
+    private boolean isOperational(SystemState systemState) {
+        if (systemState != SystemState.ACTIVE) {
+            return false;
+        }
+        for (var state : ServiceState.values()) {
+            if (state != ServiceState.OPERATIONAL && stateCounts.get(state.ordinal()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void versionChanged() {
+        version.incrementAndGet();
+        changeNotifier.changed();
+        listeners.operationalMayHaveChanged();
+    }
+
+    private void systemStateChanged() {
+        if (closed) {
+            // the forwarder may have picked us up for notification just before we were closed
+            return;
+        }
+        if (journal != null) {
+            journal.recordSystemState(systemReadyMonitor.getSystemState());
+        }
+        changeNotifier.changed();
+        listeners.operationalMayHaveChanged();
+    }
+
+    /**
+     * Account for a statusMap entry changing from one descriptor to another. Must be called from within a
+     * {@code statusMap} computation on the entry, so that transitions of a single entry are counted, and dispatched to
+     * listeners, one at a time.
+     *
+     * @param key statusMap key
+     * @param prev previous descriptor, {@code null} if there was none
+     * @param next new descriptor
+     * @return {@code next}
+     */
+    private ServiceDescriptor counted(String key, @Nullable ServiceDescriptor prev, ServiceDescriptor next) {
+        // Count the new state first, so that a concurrent isOperational() errs on the side of caution
+        stateCounts.incrementAndGet(next.getServiceState().ordinal());
+        if (prev != null) {
+            stateCounts.decrementAndGet(prev.getServiceState().ordinal());
+        } else {
+            names.add(key);
         }
+        if (prev == null || prev.getServiceState() != next.getServiceState()) {
+            namesByState.get(next.getServiceState().ordinal()).add(key);
+            if (prev != null) {
+                namesByState.get(prev.getServiceState().ordinal()).remove(key);
+            }
+            @Var var history = histories.get(key);
+            if (history == null) {
+                history = histories.computeIfAbsent(key,
+                    name -> new TransitionHistory(name, historyCapacity, flapThreshold, flapWindowMillis));
+            }
+            history.record(System.currentTimeMillis(), prev != null ? prev.getServiceState() : null,
+                next.getServiceState(), next.getStatusDesc());
+            if (journal != null) {
+                journal.recordServiceTransition(key, prev != null ? prev.getServiceState() : null,
+                    next.getServiceState());
+            }
+        }
+        listeners.serviceStateChanged(prev, next);
+        return next;
+    }
+
+    /**
+     * Account for a statusMap entry being removed. Must be called from within a {@code statusMap} computation on the
+     * entry, which then removes it, so that the removal is not interleaved with any transition of the entry.
+     *
+     * @param key statusMap key
+     * @param removed descriptor being removed
+     * @return {@code null}
+     */
+    private @Nullable ServiceDescriptor unregistered(String key, ServiceDescriptor removed) {
+        stateCounts.decrementAndGet(removed.getServiceState().ordinal());
+        histories.remove(key);
+        if (journal != null) {
+            journal.recordServiceTransition(key, removed.getServiceState(), ServiceState.UNREGISTERED);
+        }
+        names.remove(key);
+        lastReports.remove(key);
+        namesByState.get(removed.getServiceState().ordinal()).remove(key);
+        var removedLabels = labels.remove(key);
+        if (removedLabels != null) {
+            removedLabels.forEach(label -> unindexLabel(label, key));
+        }
+        listeners.serviceStateChanged(removed, null);
+        return null;
+    }
+
+    /**
+     * Attach labels to a statusMap entry. Must be called from within a {@code statusMap} computation on the entry.
+     *
+     * @param key statusMap key
+     * @param current current descriptor
+     * @param newLabels labels to attach
+     * @return {@code current}
+     */
+    private ServiceDescriptor labelled(String key, ServiceDescriptor current, ImmutableSet<String> newLabels) {
+        var oldLabels = newLabels.isEmpty() ? labels.remove(key) : labels.put(key, newLabels);
+        for (var label : newLabels) {
+            // not computeIfAbsent(): the set could be dropped by a concurrent unindexLabel() before we add to it
+            namesByLabel.compute(label, (unused, labelled) -> {
+                var set = labelled != null ? labelled : new ConcurrentSkipListSet<String>();
+                set.add(key);
+                return set;
+            });
+        }
+        if (oldLabels != null) {
+            for (var label : oldLabels) {
+                if (!newLabels.contains(label)) {
+                    unindexLabel(label, key);
+                }
+            }
+        }
+        return current;
+    }
+
+    private void unindexLabel(String label, String key) {
+        // drop labels no longer in use, so that label churn does not leak
+        namesByLabel.computeIfPresent(label, (unused, labelled) -> {
+            labelled.remove(key);
+            return labelled.isEmpty() ? null : labelled;
+        });
+    }
+
+    private ImmutableSet<ServiceDescriptor> currentDescriptors() {
+        // Read the version before the map: should the map be modified while we copy it, the version moves on and the
+        // next caller rebuilds the snapshot
+        var current = snapshot;
+        var currentVersion = version.get();
+        if (current.version == currentVersion) {
+            return current.descriptors;
+        }
+        var descriptors = ImmutableSet.copyOf(statusMap.values());
+        snapshot = new Snapshot(currentVersion, descriptors);
+        return descriptors;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void refreshServiceStatusMap() {
+        try {
+            updateServiceStatusMap();
+        } catch (RuntimeException e) {
+            // Do not let a misbehaving provider kill the periodic refresh
+            LOG.warn("Failed to refresh service status", e);
+        }
+    }
+
+    private void updateServiceStatusMap() {
+        poller.poll(serviceStatusProviders, (serviceDescriptor, reported) -> {
+            if (reported) {
+                @Var var lastReport = lastReports.get(serviceDescriptor.getModuleServiceName());
+                if (lastReport == null) {
+                    lastReport = lastReports.computeIfAbsent(serviceDescriptor.getModuleServiceName(),
+                        unused -> new LastReport());
+                }
+                lastReport.nanos = System.nanoTime();
+            }
+            // Providers typically create a fresh descriptor on each call: retain the previous one unless the status
+            // has actually changed, so that an unchanged status does not invalidate snapshots. The retained
+            // descriptor's timestamp hence marks the last change of status, not the last poll.
+            var stored = statusMap.compute(serviceDescriptor.getModuleServiceName(),
+                (key, value) -> value != null && sameStatus(value, serviceDescriptor) ? value
+                    : counted(key, value, serviceDescriptor));
+            if (stored == serviceDescriptor) {
+                versionChanged();
+            }
+        });
     }
 
-    private static boolean isOperational(SystemState systemState, Collection<ServiceDescriptor> serviceDescriptors) {
-        return systemState == SystemState.ACTIVE && serviceDescriptors.stream()
-            .allMatch(serviceDescriptor -> serviceDescriptor.getServiceState() == ServiceState.OPERATIONAL);
+    private static boolean sameStatus(ServiceDescriptor first, ServiceDescriptor second) {
+        return first.getServiceState() == second.getServiceState()
+            && first.getStatusDesc().equals(second.getStatusDesc())
+            && first.getErrorCause().equals(second.getErrorCause());
+    }
+
+    /**
+     * Time of the last report of a single service, as per {@link System#nanoTime()}.
+     */
+    private static final class LastReport {
+        volatile long nanos = System.nanoTime();
+    }
+
+    /**
+     * Heartbeat tracking of a single registration. A missed heartbeat replaces the service's descriptor with a
+     * {@link ServiceState#SUSPECTED} one, the next report after that is turned into {@link ServiceState#RECOVERED}.
+     */
+    private final class Heartbeat extends HeartbeatWatchdog.Task {
+        private final String serviceIdentifier;
+        private final Duration interval;
+        private final long intervalNanos;
+        private final String suspectedDesc;
+        private final LastReport lastReport;
+
+        // Only modified within statusMap.computeIfPresent() for serviceIdentifier
+        private volatile boolean suspected;
+        private volatile boolean cancelled;
+
+        Heartbeat(String serviceIdentifier, Duration interval, LastReport lastReport) {
+            this.serviceIdentifier = requireNonNull(serviceIdentifier);
+            this.interval = interval;
+            this.lastReport = requireNonNull(lastReport);
+            intervalNanos = interval.toNanos();
+            suspectedDesc = "No heartbeat received within " + interval;
+        }
+
+        ServiceDescriptor onReport(ServiceDescriptor reported) {
+            if (!suspected) {
+                return reported;
+            }
+            suspected = false;
+            LOG.info("Service {} has resumed reporting its status", serviceIdentifier);
+            return reported.getServiceState() != ServiceState.OPERATIONAL ? reported
+                : new ServiceDescriptor(serviceIdentifier, ServiceState.RECOVERED, reported.getStatusDesc());
+        }
+
+        @Override
+        long initialDeadline() {
+            return lastReport.nanos + intervalNanos;
+        }
+
+        @Override
+        @Nullable Long expire(long nowNanos) {
+            if (cancelled) {
+                return null;
+            }
+            var deadline = lastReport.nanos + intervalNanos;
+            if (nowNanos - deadline < 0) {
+                // reported in the meantime
+                return deadline;
+            }
+            if (!suspected) {
+                if (statusMap.computeIfPresent(serviceIdentifier, (key, current) -> suspect(current)) == null) {
+                    // unregistered in the meantime
+                    return null;
+                }
+                versionChanged();
+            }
+            return nowNanos + intervalNanos;
+        }
+
+        private ServiceDescriptor suspect(ServiceDescriptor current) {
+            // Re-check: a report may have arrived since we last looked
+            if (System.nanoTime() - lastReport.nanos < intervalNanos) {
+                return current;
+            }
+            suspected = true;
+            LOG.warn("Service {} has not reported its status within {}, suspecting it", serviceIdentifier, interval);
+            return counted(serviceIdentifier, current,
+                new ServiceDescriptor(serviceIdentifier, ServiceState.SUSPECTED, suspectedDesc));
+        }
     }
 }
@@ -43,6 +43,7 @@ public final class DiagStatusServiceMBeanImpl extends StandardMBean implements D
 
     private final DiagStatusService diagStatusService;
     private final SystemReadyMonitor systemReadyMonitor;
+    private final ServiceStatusMXBeans serviceBeans;
 
     @Inject
     @Activate
@@ -52,6 +53,7 @@ public final class DiagStatusServiceMBeanImpl extends StandardMBean implements D
         this.diagStatusService = diagStatusService;
         this.systemReadyMonitor = systemReadyMonitor;
         MBeanUtils.registerServerMBean(this, JMX_OBJECT_NAME);
+        serviceBeans = new ServiceStatusMXBeans(diagStatusService);
         LOG.info("Diagnostic Status Service management started");
     }
 
@@ -59,6 +61,7 @@ public final class DiagStatusServiceMBeanImpl extends StandardMBean implements D
     @Deactivate
     @PreDestroy
     public void close() throws InstanceNotFoundException, MBeanRegistrationException {
+        serviceBeans.close();
         MBeanUtils.unregisterServerMBean(this, JMX_OBJECT_NAME);
         LOG.info("Diagnostic Status Service management stopped");
     }
@@ -142,6 +145,28 @@ public final class DiagStatusServiceMBeanImpl extends StandardMBean implements D
         return mapBuilder.build();
     }
 
+    @Override
+    public String acquireServiceStatusHistory() {
+        var sb = new StringBuilder();
+        for (var history : diagStatusService.getAllServiceStatusHistories()) {
+            sb.append(history.getServiceName()).append(" (").append(history.getTransitionCount())
+                .append(" transitions");
+            if (history.isFlapping()) {
+                sb.append(", FLAPPING");
+            }
+            sb.append(")\n");
+            for (var transition : history.getTransitions()) {
+                sb.append("  ").append(transition.getTimestamp()).append(' ').append(transition.getFrom())
+                    .append(" -> ").append(transition.getTo());
+                if (!transition.getStatusDesc().isEmpty()) {
+                    sb.append(" (").append(transition.getStatusDesc()).append(')');
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
     @Override
     public String acquireServiceStatusAsJSON() {
         return diagStatusService.getServiceStatusSummary().toJSON();
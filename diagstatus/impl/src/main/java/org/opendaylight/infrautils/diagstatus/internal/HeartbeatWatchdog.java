@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel checking {@link Task}s for expiry. All timing is done by a single thread, which is started when
+ * the first task is added, and which ticks at a fixed rate. Each tick only visits the tasks hashed to the current
+ * bucket, hence the cost of a tick does not grow with the total number of tasks.
+ *
+ * <p>Tasks are not rescheduled when their deadline moves: a task is visited at its original deadline, and tells the
+ * wheel when it wants to be visited next. This keeps the hot path of the task owner, which merely moves the deadline,
+ * free of any interaction with the wheel.
+ */
+// package-local not public (for the time being)
+final class HeartbeatWatchdog implements AutoCloseable {
+    /**
+     * A task tracked by the wheel.
+     */
+    abstract static class Task {
+        // Only accessed from the ticker thread
+        private long deadlineTick;
+
+        /**
+         * Invoked from the ticker thread when the task's deadline has passed.
+         *
+         * @param nowNanos current {@link System#nanoTime()}
+         * @return {@link System#nanoTime()} at which to invoke this method again, or a {@code null} to stop tracking
+         *         this task
+         */
+        abstract @Nullable Long expire(long nowNanos);
+
+        /**
+         * Return the {@link System#nanoTime()} at which this task should first be visited.
+         *
+         * @return initial deadline
+         */
+        abstract long initialDeadline();
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeartbeatWatchdog.class);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final ConcurrentLinkedQueue<Task> incoming = new ConcurrentLinkedQueue<>();
+    private final long tickNanos;
+
+    // Only accessed from the ticker thread
+    private final ArrayList<ArrayList<Task>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private long startNanos;
+    private long currentTick;
+
+    // Guarded by this
+    private @Nullable ScheduledExecutorService ticker;
+    private boolean closed;
+
+    HeartbeatWatchdog(Duration tick) {
+        checkArgument(tick.isPositive(), "Invalid tick %s", tick);
+        tickNanos = tick.toNanos();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Start tracking a task.
+     *
+     * @param task task to track
+     */
+    void add(Task task) {
+        incoming.add(task);
+        ensureStarted();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (ticker != null) {
+            Executors.shutdownAndAwaitTermination(ticker);
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private synchronized void ensureStarted() {
+        if (ticker == null && !closed) {
+            var executor = Executors.newListeningSingleThreadScheduledExecutor("diagstatus-watchdog", LOG);
+            startNanos = System.nanoTime();
+            // The task never fails and is stopped by shutting down the executor, there is nothing to learn from its
+            // Future
+            executor.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+            ticker = executor;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void tick() {
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            // Do not let a misbehaving task kill the watchdog
+            LOG.warn("Watchdog tick failed", e);
+        }
+    }
+
+    private void advance() {
+        var now = System.nanoTime();
+        var target = (now - startNanos) / tickNanos;
+
+        var it = incoming.iterator();
+        while (it.hasNext()) {
+            var task = it.next();
+            it.remove();
+            schedule(task, task.initialDeadline());
+        }
+
+        // Catch up with any ticks we have missed, but do not spin through more than one revolution
+        var first = Math.max(currentTick + 1, target - WHEEL_MASK);
+        for (long tick = first; tick <= target; tick++) {
+            currentTick = tick;
+            expireBucket(now);
+        }
+    }
+
+    private void expireBucket(long now) {
+        var bucket = wheel.get((int) (currentTick & WHEEL_MASK));
+        var rescheduled = new ArrayList<Task>();
+        bucket.removeIf(task -> {
+            if (task.deadlineTick > currentTick) {
+                return false;
+            }
+            var next = task.expire(now);
+            if (next != null) {
+                rescheduled.add(task);
+                task.deadlineTick = toTick(next);
+            }
+            return true;
+        });
+        for (var task : rescheduled) {
+            wheel.get((int) (task.deadlineTick & WHEEL_MASK)).add(task);
+        }
+    }
+
+    private void schedule(Task task, long deadlineNanos) {
+        task.deadlineTick = toTick(deadlineNanos);
+        wheel.get((int) (task.deadlineTick & WHEEL_MASK)).add(task);
+    }
+
+    private long toTick(long deadlineNanos) {
+        // Round up, so we never visit a task before its deadline, and never schedule into the past
+        var tick = (deadlineNanos - startNanos + tickNanos - 1) / tickNanos;
+        return Math.max(tick, currentTick + 1);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.errorprone.annotations.Var;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListener;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListenerRegistration;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers notifications to {@link DiagStatusListener}s. Each listener has its own bounded queue, which is drained by
+ * a pooled thread while it is not empty, so that listeners are notified one notification at a time, and a slow
+ * listener holds up neither the party which caused the change nor other listeners. Notifications which do not fit
+ * into a listener's queue are dropped, accounted for in the log and reported to the listener once it has caught up.
+ */
+// package-local not public (for the time being)
+final class ListenerDispatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ListenerDispatcher.class);
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // Number of operationalMayHaveChanged() calls not yet accounted for by the thread evaluating them
+    private final AtomicInteger pendingEvaluations = new AtomicInteger();
+    private final BooleanSupplier operational;
+    private final int queueCapacity;
+
+    // Guarded by this
+    private @Nullable ExecutorService executor;
+    private boolean closed;
+    // Last isOperational value notified to listeners, written by whoever evaluates it, or by register() when there
+    // were no listeners to notify
+    private volatile boolean lastOperational;
+
+    ListenerDispatcher(BooleanSupplier operational, int queueCapacity) {
+        checkArgument(queueCapacity > 0, "Invalid queue capacity %s", queueCapacity);
+        this.operational = requireNonNull(operational);
+        this.queueCapacity = queueCapacity;
+    }
+
+    DiagStatusListenerRegistration register(DiagStatusListener listener) {
+        var subscriber = new Subscriber(requireNonNull(listener), ensureExecutor());
+        synchronized (subscribers) {
+            if (subscribers.isEmpty()) {
+                // nobody was tracking flips, start from the current value
+                lastOperational = operational.getAsBoolean();
+            }
+            subscribers.add(subscriber);
+        }
+        return subscriber;
+    }
+
+    /**
+     * Dispatch a service state transition. Transitions of a single service must be dispatched in the order in which
+     * they happened, i.e. from within the computation which performs them.
+     *
+     * @param previous descriptor before the transition, {@code null} if there was none
+     * @param current descriptor after the transition, {@code null} if there is none
+     */
+    void serviceStateChanged(@Nullable ServiceDescriptor previous, @Nullable ServiceDescriptor current) {
+        if (!subscribers.isEmpty() && (previous == null || current == null
+                || previous.getServiceState() != current.getServiceState())) {
+            dispatch(listener -> listener.onServiceStateChanged(previous, current));
+        }
+    }
+
+    /**
+     * Re-evaluate whether the system is operational and dispatch a notification if it has flipped. Must be invoked
+     * after any change which may affect it has been made visible.
+     */
+    void operationalMayHaveChanged() {
+        // Only one thread evaluates at a time, others leave it to re-evaluate on their behalf, so that the last
+        // evaluation is the one which sticks without anyone having to wait for it
+        if (subscribers.isEmpty() || pendingEvaluations.getAndIncrement() != 0) {
+            return;
+        }
+        @Var var missed = 1;
+        do {
+            var current = operational.getAsBoolean();
+            if (current != lastOperational) {
+                lastOperational = current;
+                dispatch(listener -> listener.onOperationalChanged(current));
+            }
+            missed = pendingEvaluations.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        subscribers.clear();
+        var local = executor;
+        if (local != null) {
+            Executors.shutdownAndAwaitTermination(local);
+        }
+    }
+
+    private void dispatch(Consumer<DiagStatusListener> notification) {
+        for (var subscriber : subscribers) {
+            subscriber.offer(notification);
+        }
+    }
+
+    private synchronized ExecutorService ensureExecutor() {
+        if (closed) {
+            throw new IllegalStateException("Dispatcher has been closed");
+        }
+        @Var var local = executor;
+        if (local == null) {
+            local = Executors.newListeningCachedThreadPool("diagstatus-listener", LOG);
+            executor = local;
+        }
+        return local;
+    }
+
+    private final class Subscriber implements DiagStatusListenerRegistration, Runnable {
+        private final ArrayBlockingQueue<Consumer<DiagStatusListener>> queue =
+            new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        private final DiagStatusListener listener;
+        private final ExecutorService executor;
+
+        private volatile boolean closed;
+
+        Subscriber(DiagStatusListener listener, ExecutorService executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        void offer(Consumer<DiagStatusListener> notification) {
+            if (!queue.offer(notification) && dropped.getAndIncrement() == 0) {
+                LOG.warn("Listener {} is falling behind, dropping notifications", listener);
+            }
+            schedule();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                drain();
+                // Clear the flag before re-checking the queue: whoever offers after this point schedules another run
+                scheduled.set(false);
+                if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // the dispatcher has been closed, there is nobody left to notify
+                    LOG.trace("Listener notification rejected", e);
+                }
+            }
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void drain() {
+            @Var var notification = queue.poll();
+            while (notification != null && !closed) {
+                try {
+                    notification.accept(listener);
+                } catch (RuntimeException e) {
+                    // Do not let a misbehaving listener kill the dispatcher thread
+                    LOG.warn("Listener {} failed", listener, e);
+                }
+                notification = queue.poll();
+            }
+            var lost = dropped.getAndSet(0);
+            if (lost != 0 && !closed) {
+                LOG.warn("Listener {} has missed {} notifications", listener, lost);
+                try {
+                    listener.onNotificationsDropped(lost);
+                } catch (RuntimeException e) {
+                    LOG.warn("Listener {} failed", listener, e);
+                }
+            }
+        }
+    }
+}
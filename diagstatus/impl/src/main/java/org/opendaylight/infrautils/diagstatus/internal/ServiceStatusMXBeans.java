@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.AttributeChangeNotification;
+import javax.management.JMException;
+import javax.management.MBeanNotificationInfo;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotificationBroadcasterSupport;
+import javax.management.ObjectName;
+import javax.management.StandardEmitterMBean;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListener;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListenerRegistration;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains a {@link ServiceStatusMXBean} for each registered service, driven by a {@link DiagStatusListener}. Beans
+ * keep the descriptor they have last been notified of and count the transitions, so that reading their attributes
+ * never polls {@link DiagStatusService} providers. When notifications have been dropped, beans are reconciled against
+ * {@link DiagStatusService#getAllServiceDescriptors()}.
+ */
+// package-local not public (for the time being)
+final class ServiceStatusMXBeans implements DiagStatusListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceStatusMXBeans.class);
+    private static final MBeanNotificationInfo[] NOTIFICATION_INFO = {
+        new MBeanNotificationInfo(new String[] { AttributeChangeNotification.ATTRIBUTE_CHANGE },
+            AttributeChangeNotification.class.getName(), "Service state transition")
+    };
+
+    private final ConcurrentHashMap<String, Bean> beans = new ConcurrentHashMap<>();
+    private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final DiagStatusService diagStatusService;
+    private final DiagStatusListenerRegistration registration;
+
+    ServiceStatusMXBeans(DiagStatusService diagStatusService) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+        registration = diagStatusService.registerListener(this);
+
+        // Services registered before us, the listener takes care of those registered from now on
+        for (var descriptor : diagStatusService.getAllServiceDescriptors()) {
+            beans.computeIfAbsent(descriptor.getModuleServiceName(),
+                key -> register(descriptor, diagStatusService.getTransitionCount(key)));
+        }
+    }
+
+    @Override
+    public void onServiceStateChanged(@Nullable ServiceDescriptor previous, @Nullable ServiceDescriptor current) {
+        if (current == null) {
+            if (previous != null) {
+                var bean = beans.remove(previous.getModuleServiceName());
+                if (bean != null) {
+                    bean.unregistered();
+                    unregister(bean);
+                }
+            }
+            return;
+        }
+
+        var name = current.getModuleServiceName();
+        if (previous == null) {
+            // registration is the first transition
+            beans.computeIfAbsent(name, key -> register(current, 1));
+            return;
+        }
+        // the bean is only missing if the notification of the service being registered has been dropped
+        beans.computeIfAbsent(name, key -> register(previous, 0)).transitioned(current);
+    }
+
+    @Override
+    public void onNotificationsDropped(long count) {
+        // Notifications are delivered one at a time, hence nothing else touches the beans while we reconcile them
+        LOG.debug("Reconciling service beans after {} notifications have been dropped", count);
+        var names = new HashSet<String>();
+        for (var descriptor : diagStatusService.getAllServiceDescriptors()) {
+            var name = descriptor.getModuleServiceName();
+            names.add(name);
+            var transitionCount = diagStatusService.getTransitionCount(name);
+            var existing = beans.get(name);
+            if (existing != null) {
+                existing.reconcile(descriptor, transitionCount);
+            } else {
+                beans.put(name, register(descriptor, transitionCount));
+            }
+        }
+        for (var it = beans.values().iterator(); it.hasNext(); ) {
+            var bean = it.next();
+            if (!names.contains(bean.serviceName)) {
+                it.remove();
+                bean.unregistered();
+                unregister(bean);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        registration.close();
+        beans.values().forEach(this::unregister);
+        beans.clear();
+    }
+
+    private Bean register(ServiceDescriptor descriptor, long transitionCount) {
+        var serviceName = descriptor.getModuleServiceName();
+        var bean = new Bean(objectNameOf(serviceName), descriptor, transitionCount);
+        try {
+            mbeanServer.registerMBean(bean, bean.objectName);
+            LOG.debug("Registered {}", bean.objectName);
+        } catch (JMException e) {
+            // the bean is retained, so that it is not retried on every transition
+            LOG.warn("Failed to register {}", bean.objectName, e);
+        }
+        return bean;
+    }
+
+    private void unregister(Bean bean) {
+        if (mbeanServer.isRegistered(bean.objectName)) {
+            try {
+                mbeanServer.unregisterMBean(bean.objectName);
+                LOG.debug("Unregistered {}", bean.objectName);
+            } catch (JMException e) {
+                LOG.warn("Failed to unregister {}", bean.objectName, e);
+            }
+        }
+    }
+
+    private static ObjectName objectNameOf(String serviceName) {
+        try {
+            return ObjectName.getInstance(ServiceStatusMXBean.JMX_OBJECT_NAME_PREFIX + ",name="
+                + ObjectName.quote(serviceName));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("Quoted name " + serviceName + " should always be valid", e);
+        }
+    }
+
+    private final class Bean extends StandardEmitterMBean implements ServiceStatusMXBean {
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong transitionCount;
+        private final ObjectName objectName;
+        private final String serviceName;
+
+        // The descriptor we have last been notified of
+        private volatile ServiceDescriptor descriptor;
+
+        Bean(ObjectName objectName, ServiceDescriptor descriptor, long transitionCount) {
+            super(ServiceStatusMXBean.class, true, new NotificationBroadcasterSupport(NOTIFICATION_INFO));
+            this.objectName = requireNonNull(objectName);
+            this.descriptor = requireNonNull(descriptor);
+            serviceName = descriptor.getModuleServiceName();
+            this.transitionCount = new AtomicLong(transitionCount);
+        }
+
+        @Override
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        @Override
+        public ServiceState getState() {
+            return descriptor.getServiceState();
+        }
+
+        @Override
+        public String getStatusDescription() {
+            // as reported along with the current state, reports which do not change the state are not notified
+            return descriptor.getStatusDesc();
+        }
+
+        @Override
+        public @Nullable Date getLastReportTime() {
+            return diagStatusService.getLastReportTime(serviceName).map(Date::from).orElse(null);
+        }
+
+        @Override
+        public long getTransitionCount() {
+            return transitionCount.get();
+        }
+
+        void transitioned(ServiceDescriptor current) {
+            transitionCount.incrementAndGet();
+            changeDescriptor(current);
+        }
+
+        void reconcile(ServiceDescriptor current, long count) {
+            transitionCount.set(count);
+            changeDescriptor(current);
+        }
+
+        void unregistered() {
+            // anyone still holding on to us sees the service is gone
+            descriptor = new ServiceDescriptor(serviceName, ServiceState.UNREGISTERED, "");
+        }
+
+        private void changeDescriptor(ServiceDescriptor current) {
+            var from = descriptor.getServiceState();
+            descriptor = current;
+            var to = current.getServiceState();
+            if (from != to) {
+                sendNotification(new AttributeChangeNotification(objectName, sequence.incrementAndGet(),
+                    System.currentTimeMillis(), serviceName + " changed from " + from + " to " + to, "State",
+                    String.class.getName(), from.name(), to.name()));
+            }
+        }
+    }
+}
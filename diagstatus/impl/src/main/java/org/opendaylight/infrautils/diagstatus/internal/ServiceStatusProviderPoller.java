@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.AsyncServiceStatusProvider;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusProvider;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls {@link ServiceStatusProvider}s. With a zero timeout they are called one after another in the calling thread.
+ * Otherwise they are called concurrently and the caller waits at most for the timeout, after which every provider
+ * which has not answered is reported as {@link ServiceState#SUSPECTED}. A provider which is still busy answering a
+ * previous poll is not called again until it returns, so that a hung provider costs at most one thread. A provider
+ * which has never answered has no known service name, hence cannot be reported at all until it does answer.
+ *
+ * <p>{@link AsyncServiceStatusProvider}s are asked for their status in the calling thread, ahead of the synchronous
+ * providers when there is no timeout, and are then waited for together with the others, without taking a thread of
+ * their own. Since waiting for them costs nothing but the caller's time, they are always given a deadline: the timeout
+ * if there is one, otherwise {@link #SEQUENTIAL_ASYNC_TIMEOUT} or half the stale limit, whichever is shorter, so that
+ * the last known state can still be reported as stale once the deadline has passed. One which does not
+ * answer in time, or whose check fails, is reported with its last known state, with a description marking it as stale,
+ * for as long as that state is not older than the stale limit. After that it is reported as
+ * {@link ServiceState#SUSPECTED}, and a check which is still pending after the stale limit is cancelled and requested
+ * again.
+ *
+ * <p>Providers are never called while holding a lock: a new check is claimed by installing a placeholder future, which
+ * is then completed from the provider's answer.
+ */
+// package-local not public (for the time being)
+final class ServiceStatusProviderPoller implements AutoCloseable {
+    /**
+     * Consumer of the descriptors obtained by polling.
+     */
+    @FunctionalInterface
+    interface Sink {
+        /**
+         * Accept a descriptor.
+         *
+         * @param descriptor descriptor to accept
+         * @param reported {@code true} if the descriptor has been reported by its provider, {@code false} if it stands
+         *                 in for a provider which has not answered in time
+         */
+        void accept(ServiceDescriptor descriptor, boolean reported);
+    }
+
+    /**
+     * A poll of a provider, started at {@code startNanos}.
+     */
+    private record Request(ListenableFuture<ServiceDescriptor> future, long startNanos) {
+        // nothing else
+    }
+
+    /**
+     * The last descriptor reported by a provider, received at {@code nanos}.
+     */
+    private record Known(ServiceDescriptor descriptor, long nanos) {
+        // nothing else
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceStatusProviderPoller.class);
+
+    /**
+     * Time to wait for {@link AsyncServiceStatusProvider}s when synchronous providers are polled without a timeout.
+     */
+    static final Duration SEQUENTIAL_ASYNC_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ConcurrentHashMap<ServiceStatusProvider, Request> inFlight = new ConcurrentHashMap<>();
+    // Last descriptor reported by each provider, used to name it (or stand in for it) when it does not answer
+    private final ConcurrentHashMap<ServiceStatusProvider, Known> lastKnown = new ConcurrentHashMap<>();
+    private final @Nullable ListeningExecutorService executor;
+    // the timeout actually applied, to asynchronous providers only when polling sequentially
+    private final Duration timeout;
+    private final long timeoutNanos;
+    private final Duration staleLimit;
+    private final long staleLimitNanos;
+    private final String suspectedDesc;
+    private final String staleDesc;
+
+    ServiceStatusProviderPoller(Duration timeout, Duration staleLimit) {
+        if (timeout.isZero()) {
+            executor = null;
+            var halfStaleLimit = staleLimit.dividedBy(2);
+            this.timeout = SEQUENTIAL_ASYNC_TIMEOUT.compareTo(halfStaleLimit) < 0 ? SEQUENTIAL_ASYNC_TIMEOUT
+                : halfStaleLimit;
+        } else {
+            executor = Executors.newListeningCachedThreadPool("diagstatus-provider", LOG);
+            this.timeout = timeout;
+        }
+        timeoutNanos = this.timeout.toNanos();
+        this.staleLimit = staleLimit;
+        staleLimitNanos = staleLimit.toNanos();
+        suspectedDesc = "Status provider did not respond within " + this.timeout;
+        staleDesc = "stale, status provider did not respond within " + this.timeout;
+    }
+
+    /**
+     * Poll the specified providers, handing each descriptor obtained to the sink.
+     *
+     * @param providers providers to poll
+     * @param sink consumer of descriptors
+     */
+    void poll(List<ServiceStatusProvider> providers, Sink sink) {
+        if (executor == null) {
+            pollSequentially(providers, sink);
+        } else {
+            pollConcurrently(executor, providers, sink);
+        }
+    }
+
+    /**
+     * Forget any state kept for providers other than the specified ones.
+     *
+     * @param providers current providers
+     */
+    void retain(List<ServiceStatusProvider> providers) {
+        inFlight.keySet().retainAll(providers);
+        lastKnown.keySet().retainAll(providers);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+    }
+
+    private void pollSequentially(List<ServiceStatusProvider> providers, Sink sink) {
+        // Start asynchronous checks first, so that they progress while we call the others
+        var now = System.nanoTime();
+        var deadline = now + timeoutNanos;
+        var futures = new ArrayList<@Nullable ListenableFuture<ServiceDescriptor>>(providers.size());
+        for (var provider : providers) {
+            futures.add(provider instanceof AsyncServiceStatusProvider ? request(null, provider, now) : null);
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            var provider = providers.get(i);
+            var future = futures.get(i);
+            if (future == null) {
+                accept(provider, provider.getServiceDescriptor(), sink);
+            } else if (!collect(provider, future, deadline, sink)) {
+                return;
+            }
+        }
+    }
+
+    private void pollConcurrently(ListeningExecutorService pollExecutor, List<ServiceStatusProvider> providers,
+            Sink sink) {
+        var now = System.nanoTime();
+        var deadline = now + timeoutNanos;
+        var futures = new ArrayList<ListenableFuture<ServiceDescriptor>>(providers.size());
+        for (var provider : providers) {
+            futures.add(request(pollExecutor, provider, now));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            if (!collect(providers.get(i), futures.get(i), deadline, sink)) {
+                return;
+            }
+        }
+    }
+
+    // pollExecutor is only null when polling sequentially, in which case only asynchronous providers are requested
+    private ListenableFuture<ServiceDescriptor> request(@Nullable ListeningExecutorService pollExecutor,
+            ServiceStatusProvider provider, long now) {
+        while (true) {
+            var prev = inFlight.get(provider);
+            if (prev != null && !prev.future.isDone()
+                && (!(provider instanceof AsyncServiceStatusProvider) || now - prev.startNanos < staleLimitNanos)) {
+                // still busy answering a previous poll
+                return prev.future;
+            }
+
+            // Claim the next check, the provider is called only once we have won the claim and without holding any
+            // lock, as it is third-party code which may well block or call back into us.
+            var claim = SettableFuture.<ServiceDescriptor>create();
+            var request = new Request(claim, now);
+            if (prev == null ? inFlight.putIfAbsent(provider, request) == null
+                : inFlight.replace(provider, prev, request)) {
+                if (prev != null && !prev.future.isDone()) {
+                    // An asynchronous check does not hold up a thread, hence we can afford to give up on it and start
+                    // afresh. Cancelling merely completes the future, it does not call back into us.
+                    LOG.warn("ServiceStatusProvider {} has not completed its check within {}, restarting it",
+                        provider, staleLimit);
+                    prev.future.cancel(false);
+                }
+                // if the claim has been cancelled in the meantime, this cancels the check, too
+                claim.setFuture(start(pollExecutor, provider));
+                return claim;
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static ListenableFuture<ServiceDescriptor> start(@Nullable ListeningExecutorService pollExecutor,
+            ServiceStatusProvider provider) {
+        try {
+            // because other projects implementing AsyncServiceStatusProvider may not run FindBugs, we null check anyway
+            return provider instanceof AsyncServiceStatusProvider async
+                ? requireNonNull(async.getServiceDescriptorAsync(), "getServiceDescriptorAsync() returned null")
+                    : requireNonNull(pollExecutor).submit(provider::getServiceDescriptor);
+        } catch (RuntimeException e) {
+            // including RejectedExecutionException while closing
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    // returns false if interrupted, in which case polling should stop
+    private boolean collect(ServiceStatusProvider provider, ListenableFuture<ServiceDescriptor> future, long deadline,
+            Sink sink) {
+        try {
+            accept(provider, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS), sink);
+        } catch (TimeoutException e) {
+            LOG.debug("ServiceStatusProvider {} timed out", provider, e);
+            fallback(provider, null, sink);
+        } catch (ExecutionException e) {
+            LOG.warn("ServiceStatusProvider getServiceDescriptor() failed: {}", provider, e.getCause());
+            fallback(provider, e.getCause(), sink);
+        } catch (CancellationException e) {
+            // restarted by a concurrent poll after the stale limit
+            LOG.debug("ServiceStatusProvider {} check was cancelled", provider, e);
+            fallback(provider, e, sink);
+        } catch (InterruptedException e) {
+            LOG.debug("Interrupted while polling providers", e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    // failure is null if the provider did not respond in time
+    private void fallback(ServiceStatusProvider provider, @Nullable Throwable failure, Sink sink) {
+        var known = lastKnown.get(provider);
+        if (known == null) {
+            // we do not know which service to suspect, and must not make one up: it would never go away
+            if (failure == null) {
+                LOG.warn("ServiceStatusProvider {} did not respond within {} and has never reported a status",
+                    provider, timeout);
+            }
+            return;
+        }
+        var last = known.descriptor;
+        if (provider instanceof AsyncServiceStatusProvider && System.nanoTime() - known.nanos < staleLimitNanos) {
+            // Asynchronous checks are expected to be expensive, assume the last known state still holds for a while
+            var stale = failure == null ? staleDesc : "stale, status provider failed: " + failure;
+            var desc = last.getStatusDesc();
+            sink.accept(new ServiceDescriptor(last.getModuleServiceName(), last.getServiceState(),
+                desc.isEmpty() ? stale : desc + " (" + stale + ")", last.getErrorCause().orElse(null)), false);
+        } else if (failure == null) {
+            sink.accept(new ServiceDescriptor(last.getModuleServiceName(), ServiceState.SUSPECTED, suspectedDesc),
+                false);
+        } else {
+            sink.accept(new ServiceDescriptor(last.getModuleServiceName(), ServiceState.SUSPECTED,
+                "Status provider failed: " + failure, failure), false);
+        }
+    }
+
+    // because other projects implementing ServiceStatusProvider may not run FindBugs, we null check anyway
+    private void accept(ServiceStatusProvider provider, @Nullable ServiceDescriptor serviceDescriptor, Sink sink) {
+        if (serviceDescriptor != null) {
+            lastKnown.put(provider, new Known(serviceDescriptor, System.nanoTime()));
+            sink.accept(serviceDescriptor, true);
+        } else {
+            LOG.warn("ServiceStatusProvider getServiceDescriptor() returned null: {}", provider);
+        }
+    }
+}
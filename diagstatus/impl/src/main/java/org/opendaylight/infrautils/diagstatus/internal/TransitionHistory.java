@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusHistory;
+
+/**
+ * A ring buffer of the most recent {@link ServiceState} transitions of a single service. Transitions are stored in
+ * preallocated parallel arrays, so that recording one allocates nothing and memory is bounded by the capacity no
+ * matter how often the service changes its state.
+ *
+ * <p>A service is flapping when the {@code flapThreshold}-th most recent transition happened within the flap window,
+ * which is a constant-time check as long as the buffer retains at least {@code flapThreshold} transitions.
+ */
+// package-local not public (for the time being)
+final class TransitionHistory {
+    private static final ServiceState[] STATES = ServiceState.values();
+    private static final byte NO_STATE = -1;
+
+    private final String serviceName;
+    private final long[] timestamps;
+    private final byte[] fromStates;
+    private final byte[] toStates;
+    private final String[] descriptions;
+    private final int flapThreshold;
+    private final long flapWindowMillis;
+
+    // Guarded by this
+    private int next;
+    private long count;
+
+    TransitionHistory(String serviceName, int capacity, int flapThreshold, long flapWindowMillis) {
+        checkArgument(flapThreshold > 0 && flapThreshold <= capacity, "Invalid flap threshold %s for capacity %s",
+            flapThreshold, capacity);
+        this.serviceName = requireNonNull(serviceName);
+        timestamps = new long[capacity];
+        fromStates = new byte[capacity];
+        toStates = new byte[capacity];
+        descriptions = new String[capacity];
+        this.flapThreshold = flapThreshold;
+        this.flapWindowMillis = flapWindowMillis;
+    }
+
+    synchronized void record(long timestampMillis, @Nullable ServiceState from, ServiceState to, String statusDesc) {
+        timestamps[next] = timestampMillis;
+        fromStates[next] = from != null ? (byte) from.ordinal() : NO_STATE;
+        toStates[next] = (byte) to.ordinal();
+        descriptions[next] = statusDesc;
+        next = (next + 1) % timestamps.length;
+        count++;
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    synchronized boolean isFlapping(long nowMillis) {
+        if (count < flapThreshold) {
+            return false;
+        }
+        var index = Math.floorMod(next - flapThreshold, timestamps.length);
+        return nowMillis - timestamps[index] <= flapWindowMillis;
+    }
+
+    synchronized ServiceStatusHistory toHistory(long nowMillis) {
+        var size = (int) Math.min(count, timestamps.length);
+        var transitions = new ArrayList<ServiceStatusHistory.Transition>(size);
+        for (int i = size; i > 0; i--) {
+            var index = Math.floorMod(next - i, timestamps.length);
+            var from = fromStates[index];
+            transitions.add(new ServiceStatusHistory.Transition(Instant.ofEpochMilli(timestamps[index]),
+                from == NO_STATE ? null : STATES[from], STATES[toStates[index]], descriptions[index]));
+        }
+        return new ServiceStatusHistory(serviceName, isFlapping(nowMillis), count, transitions);
+    }
+}
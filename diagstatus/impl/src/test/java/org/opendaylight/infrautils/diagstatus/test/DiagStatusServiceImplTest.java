@@ -0,0 +1,729 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import javax.management.AttributeChangeNotification;
+import javax.management.JMX;
+import javax.management.Notification;
+import javax.management.ObjectName;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.infrautils.diagstatus.AsyncServiceStatusProvider;
+import org.opendaylight.infrautils.diagstatus.DiagStatusListener;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorPage;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorQuery;
+import org.opendaylight.infrautils.diagstatus.ServiceRegistration;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusMXBean;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusProvider;
+import org.opendaylight.infrautils.diagstatus.StatusJournal;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl.Settings;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceMBeanImpl;
+import org.opendaylight.infrautils.ready.SystemState;
+import org.opendaylight.infrautils.ready.spi.SimpleSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor.Behaviour;
+
+/**
+ * Unit tests for {@link DiagStatusServiceImpl} configured with non-default {@link Settings}.
+ */
+public class DiagStatusServiceImplTest {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    private final ServiceStatusProvider provider = () -> {
+        providerCalls.incrementAndGet();
+        return new ServiceDescriptor("provided", ServiceState.OPERATIONAL);
+    };
+
+    @Test
+    public void testBackgroundRefresh() {
+        // Long enough for only the initial refresh to ever happen
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider), Settings.DEFAULT.withProviderRefreshInterval(Duration.ofHours(1)))) {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> service.getServiceDescriptor("provided") != null);
+
+            // Queries are served from the snapshot, without calling the provider ...
+            var first = service.getAllServiceDescriptors();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("provided").getServiceState());
+            }
+            assertEquals(1, providerCalls.get());
+            // ... and the snapshot is reused until something changes
+            assertSame(first, service.getAllServiceDescriptors());
+
+            var reg = service.register("registered");
+            var second = service.getAllServiceDescriptors();
+            assertEquals(1, first.size());
+            assertEquals(2, second.size());
+            assertSame(second, service.getAllServiceDescriptors());
+            reg.close();
+            assertEquals(1, service.getAllServiceDescriptors().size());
+            assertEquals(1, providerCalls.get());
+        }
+    }
+
+    @Test
+    public void testQueryRefresh() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider))) {
+            service.getServiceDescriptor("provided");
+            service.getAllServiceDescriptors();
+            assertEquals(2, providerCalls.get());
+        }
+    }
+
+    @Test
+    public void testProviderTimeout() {
+        var slowCalls = new AtomicInteger();
+        var latch = new CountDownLatch(1);
+        ServiceStatusProvider slowProvider = () -> {
+            // the first call answers right away, all others wait for the latch
+            if (slowCalls.incrementAndGet() > 1) {
+                Uninterruptibles.awaitUninterruptibly(latch);
+            }
+            return new ServiceDescriptor("slow", ServiceState.OPERATIONAL);
+        };
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider, slowProvider), Settings.DEFAULT.withProviderTimeout(Duration.ofMillis(100)))) {
+            try {
+                assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("slow").getServiceState());
+
+                // the slow provider is suspected, but does not hold up the other one
+                var summary = service.getServiceStatusSummary();
+                assertFalse(summary.isOperational());
+                assertEquals(ServiceState.SUSPECTED, service.getServiceDescriptor("slow").getServiceState());
+                assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("provided").getServiceState());
+                // it is not called again while it is still busy
+                assertEquals(2, slowCalls.get());
+            } finally {
+                latch.countDown();
+            }
+
+            await().atMost(5, TimeUnit.SECONDS).until(
+                () -> service.getServiceDescriptor("slow").getServiceState() == ServiceState.OPERATIONAL);
+        }
+    }
+
+    @Test
+    public void testProviderTimeoutBeforeFirstReport() {
+        var latch = new CountDownLatch(1);
+        ServiceStatusProvider hungProvider = () -> {
+            Uninterruptibles.awaitUninterruptibly(latch);
+            return new ServiceDescriptor("hung", ServiceState.OPERATIONAL);
+        };
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider, hungProvider), Settings.DEFAULT.withProviderTimeout(Duration.ofMillis(100)))) {
+            try {
+                // the hung provider has no name yet, hence there is nothing to report for it
+                var summary = service.getServiceStatusSummary();
+                assertEquals(Set.of("provided"), summary.getStatusSummary().stream()
+                    .map(ServiceDescriptor::getModuleServiceName)
+                    .collect(Collectors.toSet()));
+                assertTrue(summary.isOperational());
+            } finally {
+                latch.countDown();
+            }
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> service.getServiceDescriptor("hung") != null);
+            assertEquals(2, service.getAllServiceDescriptors().size());
+        }
+    }
+
+    @Test
+    public void testAsyncProvider() {
+        var asyncCalls = new AtomicInteger();
+        var pending = SettableFuture.<ServiceDescriptor>create();
+        AsyncServiceStatusProvider asyncProvider = () -> asyncCalls.incrementAndGet() > 1 ? pending
+            : Futures.immediateFuture(new ServiceDescriptor("async", ServiceState.OPERATIONAL, "all good"));
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider, asyncProvider), Settings.DEFAULT.withProviderTimeout(Duration.ofMillis(100)))) {
+            assertEquals("all good", service.getServiceDescriptor("async").getStatusDesc());
+
+            // the pending check leaves the last known state in place, marked as stale
+            var summary = service.getServiceStatusSummary();
+            assertTrue(summary.isOperational());
+            var stale = service.getServiceDescriptor("async");
+            assertEquals(ServiceState.OPERATIONAL, stale.getServiceState());
+            assertEquals("all good (stale, status provider did not respond within PT0.1S)", stale.getStatusDesc());
+
+            // it is not asked again while the check is still pending, and remaining stale is not a change
+            assertSame(stale, service.getServiceDescriptor("async"));
+            assertEquals(2, asyncCalls.get());
+
+            pending.set(new ServiceDescriptor("async", ServiceState.ERROR, "datastore unreachable"));
+            assertEquals(ServiceState.ERROR, service.getServiceDescriptor("async").getServiceState());
+            assertEquals("datastore unreachable", service.getServiceDescriptor("async").getStatusDesc());
+        }
+    }
+
+    @Test
+    public void testAsyncProviderStaleLimit() {
+        var asyncCalls = new AtomicInteger();
+        var hung = SettableFuture.<ServiceDescriptor>create();
+        var restarted = SettableFuture.<ServiceDescriptor>create();
+        AsyncServiceStatusProvider asyncProvider = () -> switch (asyncCalls.incrementAndGet()) {
+            case 1 -> Futures.immediateFuture(new ServiceDescriptor("async", new IllegalStateException("broken")));
+            case 2 -> hung;
+            default -> restarted;
+        };
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(asyncProvider), Settings.DEFAULT.withProviderTimeout(Duration.ofMillis(50))
+                    .withProviderStaleLimit(Duration.ofMillis(300)))) {
+            assertEquals(ServiceState.ERROR, service.getServiceDescriptor("async").getServiceState());
+
+            // the stale state retains the error cause
+            var stale = service.getServiceDescriptor("async");
+            assertEquals(ServiceState.ERROR, stale.getServiceState());
+            assertEquals("broken", stale.getErrorCause().orElseThrow().getMessage());
+
+            // until it is too old to be trusted
+            await().atMost(5, TimeUnit.SECONDS).until(
+                () -> service.getServiceDescriptor("async").getServiceState() == ServiceState.SUSPECTED);
+            // and the hung check is eventually given up on
+            await().atMost(5, TimeUnit.SECONDS).until(() -> {
+                service.getServiceDescriptor("async");
+                return hung.isCancelled();
+            });
+            assertEquals(3, asyncCalls.get());
+
+            restarted.set(new ServiceDescriptor("async", ServiceState.OPERATIONAL));
+            assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("async").getServiceState());
+        }
+    }
+
+    @Test
+    public void testAsyncProviderWithoutTimeout() {
+        AsyncServiceStatusProvider asyncProvider = () -> Futures.submit(
+            () -> new ServiceDescriptor("async", ServiceState.OPERATIONAL), ForkJoinPool.commonPool());
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(asyncProvider, provider))) {
+            assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("async").getServiceState());
+            assertTrue(service.getServiceStatusSummary().isOperational());
+        }
+    }
+
+    @Test
+    public void testHungAsyncProviderWithoutTimeout() {
+        var asyncCalls = new AtomicInteger();
+        var hung = SettableFuture.<ServiceDescriptor>create();
+        AsyncServiceStatusProvider asyncProvider = () -> asyncCalls.incrementAndGet() > 1 ? hung
+            : Futures.immediateFuture(new ServiceDescriptor("async", ServiceState.OPERATIONAL, "all good"));
+
+        // without a provider timeout, asynchronous providers are still waited for at most half the stale limit
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(asyncProvider, provider), Settings.DEFAULT.withProviderStaleLimit(Duration.ofMillis(400)))) {
+            assertEquals("all good", service.getServiceDescriptor("async").getStatusDesc());
+
+            var summary = service.getServiceStatusSummary();
+            assertTrue(summary.isOperational());
+            assertEquals("all good (stale, status provider did not respond within PT0.2S)",
+                summary.getStatusSummary().stream()
+                    .filter(descriptor -> descriptor.getModuleServiceName().equals("async"))
+                    .findFirst().orElseThrow().getStatusDesc());
+            // it is not asked again while the check is still pending
+            assertEquals(2, asyncCalls.get());
+        }
+    }
+
+    @Test
+    public void testAsyncProviderFailure() {
+        var asyncCalls = new AtomicInteger();
+        AsyncServiceStatusProvider asyncProvider = () -> asyncCalls.incrementAndGet() > 1
+            ? Futures.immediateFailedFuture(new IllegalStateException("broken"))
+                : Futures.immediateFuture(new ServiceDescriptor("async", ServiceState.OPERATIONAL, "all good"));
+
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(asyncProvider), Settings.DEFAULT.withProviderTimeout(Duration.ofMillis(50))
+                    .withProviderStaleLimit(Duration.ofMillis(300)))) {
+            assertEquals("all good", service.getServiceDescriptor("async").getStatusDesc());
+
+            // a failed check leaves the last known state in place, marked as stale
+            var stale = service.getServiceDescriptor("async");
+            assertEquals(ServiceState.OPERATIONAL, stale.getServiceState());
+            assertTrue(stale.getStatusDesc().startsWith("all good (stale, status provider failed: "));
+
+            // until it is too old to be trusted, at which point the failure is reported
+            await().atMost(5, TimeUnit.SECONDS).until(
+                () -> service.getServiceDescriptor("async").getServiceState() == ServiceState.SUSPECTED);
+            assertEquals("broken", service.getServiceDescriptor("async").getErrorCause().orElseThrow().getMessage());
+        }
+    }
+
+    @Test
+    public void testHeartbeat() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of(),
+                Settings.DEFAULT.withWatchdogTick(Duration.ofMillis(10)))) {
+            var reg = service.register("beating", Duration.ofMillis(200));
+            reg.report(new ServiceDescriptor("beating", ServiceState.OPERATIONAL));
+            assertTrue(service.getServiceStatusSummary().isOperational());
+
+            // no report for a while
+            await().atMost(5, TimeUnit.SECONDS).until(
+                () -> service.getServiceDescriptor("beating").getServiceState() == ServiceState.SUSPECTED);
+            assertFalse(service.getServiceStatusSummary().isOperational());
+
+            // reporting again recovers, and the next report is taken as-is
+            reg.report(new ServiceDescriptor("beating", ServiceState.OPERATIONAL));
+            assertEquals(ServiceState.RECOVERED, service.getServiceDescriptor("beating").getServiceState());
+            reg.report(new ServiceDescriptor("beating", ServiceState.OPERATIONAL));
+            assertEquals(ServiceState.OPERATIONAL, service.getServiceDescriptor("beating").getServiceState());
+            reg.close();
+        }
+    }
+
+
+    @Test
+    public void testStatusOnlyReport() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of(),
+                Settings.DEFAULT.withWatchdogTick(Duration.ofMillis(10)))) {
+            var reg = service.register("busy", Duration.ofMillis(200));
+            reg.report(ServiceState.OPERATIONAL, "processing");
+            var descriptor = service.getServiceDescriptor("busy");
+            assertEquals(ServiceState.OPERATIONAL, descriptor.getServiceState());
+            var summary = service.getServiceStatusSummary();
+
+            // unchanged reports leave everything as it was, but keep the heartbeat going
+            for (int i = 0; i < 40; i++) {
+                reg.report(ServiceState.OPERATIONAL, "processing");
+                Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+            }
+            assertSame(descriptor, service.getServiceDescriptor("busy"));
+            assertSame(summary, service.getServiceStatusSummary());
+
+            // a change goes through
+            reg.report(ServiceState.ERROR, "stuck");
+            assertEquals("stuck", service.getServiceDescriptor("busy").getStatusDesc());
+            assertFalse(service.getServiceStatusSummary().isOperational());
+
+            // as does recovering from a missed heartbeat
+            await().atMost(5, TimeUnit.SECONDS).until(
+                () -> service.getServiceDescriptor("busy").getServiceState() == ServiceState.SUSPECTED);
+            reg.report(ServiceState.OPERATIONAL, "processing");
+            assertEquals(ServiceState.RECOVERED, service.getServiceDescriptor("busy").getServiceState());
+            reg.close();
+        }
+    }
+
+    @Test
+    public void testLastReportTime() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider))) {
+            var reg = service.register("quiet");
+            reg.report(ServiceState.OPERATIONAL, "idle");
+            var timestamp = service.getServiceDescriptor("quiet").getStatusTimestamp();
+            var first = service.getLastReportTime("quiet").orElseThrow();
+
+            // an unchanged report keeps the descriptor, but is a report nevertheless
+            Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+            reg.report(ServiceState.OPERATIONAL, "idle");
+            assertEquals(timestamp, service.getServiceDescriptor("quiet").getStatusTimestamp());
+            assertTrue(service.getLastReportTime("quiet").orElseThrow().isAfter(first.plusMillis(25)));
+
+            // providers report when polled
+            assertTrue(service.getLastReportTime("provided").isPresent());
+
+            reg.close();
+            assertTrue(service.getLastReportTime("quiet").isEmpty());
+        }
+    }
+
+    @Test
+    public void testIsOperational() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of())) {
+            assertTrue(service.isOperational());
+            var first = service.register("first");
+            var second = service.register("second");
+            assertFalse(service.isOperational());
+
+            first.report(new ServiceDescriptor("first", ServiceState.OPERATIONAL));
+            assertFalse(service.isOperational());
+            second.report(new ServiceDescriptor("second", ServiceState.OPERATIONAL));
+            assertTrue(service.isOperational());
+            assertTrue(service.getServiceStatusSummary().isOperational());
+
+            second.report(new ServiceDescriptor("second", new IllegalStateException("broken")));
+            assertFalse(service.isOperational());
+            assertFalse(service.getServiceStatusSummary().isOperational());
+
+            second.close();
+            assertTrue(service.isOperational());
+            first.close();
+            assertTrue(service.isOperational());
+        }
+    }
+
+    @Test
+    public void testSummaryVersion() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider))) {
+            // an unchanged provider status does not produce a new summary
+            var first = service.getServiceStatusSummary();
+            assertSame(first, service.getServiceStatusSummary());
+
+            var reg = service.register("registered");
+            var second = service.getServiceStatusSummary();
+            assertTrue(second.getVersion() > first.getVersion());
+            assertEquals(2, second.getStatusSummary().size());
+            reg.close();
+            assertTrue(service.getServiceStatusSummary().getVersion() > second.getVersion());
+        }
+    }
+
+    @Test
+    public void testLastKnownOperationalRefreshesProviders() {
+        var latch = new CountDownLatch(1);
+        var state = new AtomicReference<>(ServiceState.ERROR);
+        ServiceStatusProvider blocking = () -> {
+            Uninterruptibles.awaitUninterruptibly(latch);
+            return new ServiceDescriptor("provided", state.get());
+        };
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(blocking))) {
+            // the provider has not been polled yet, and we do not wait for it
+            assertTrue(service.isLastKnownOperational());
+            latch.countDown();
+            // ... but it is polled in the background
+            await().atMost(5, TimeUnit.SECONDS).until(() -> !service.isLastKnownOperational());
+
+            state.set(ServiceState.OPERATIONAL);
+            await().atMost(5, TimeUnit.SECONDS).until(service::isLastKnownOperational);
+        }
+    }
+
+    @Test
+    public void testAwaitSummary() throws Exception {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of())) {
+            var first = service.getServiceStatusSummary();
+            // an older version is answered right away
+            assertTrue(service.awaitServiceStatusSummary(first.getVersion() - 1).isDone());
+
+            var next = service.awaitServiceStatusSummary(first.getVersion());
+            var other = service.awaitServiceStatusSummary(first.getVersion());
+            assertFalse(next.isDone());
+            // cancelling one waiter does not affect the other
+            other.cancel(false);
+
+            var reg = service.register("registered");
+            var summary = next.get(5, TimeUnit.SECONDS);
+            assertTrue(summary.getVersion() > first.getVersion());
+            assertEquals(1, summary.getStatusSummary().size());
+            reg.close();
+
+            var pending = service.awaitServiceStatusSummary(service.getServiceStatusSummary().getVersion());
+            service.close();
+            assertTrue(pending.isCancelled());
+        }
+    }
+
+    @Test
+    public void testListener() throws Exception {
+        var events = new LinkedBlockingQueue<String>();
+        var latch = new CountDownLatch(1);
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of())) {
+            var reg = service.registerListener(new DiagStatusListener() {
+                @Override
+                public void onServiceStateChanged(ServiceDescriptor previous, ServiceDescriptor current) {
+                    events.add((previous != null ? previous.getModuleServiceName() : current.getModuleServiceName())
+                        + ": " + (previous != null ? previous.getServiceState() : null) + " -> "
+                        + (current != null ? current.getServiceState() : null));
+                }
+
+                @Override
+                public void onOperationalChanged(boolean isOperational) {
+                    events.add("operational: " + isOperational);
+                }
+            });
+            // a stuck listener does not hold up reporters, nor other listeners
+            var stuck = service.registerListener(new DiagStatusListener() {
+                @Override
+                public void onOperationalChanged(boolean isOperational) {
+                    Uninterruptibles.awaitUninterruptibly(latch);
+                }
+            });
+
+            var svc = service.register("svc");
+            svc.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL));
+            // same state, no transition
+            svc.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL, "still fine"));
+            svc.close();
+
+            for (var expected : List.of("svc: null -> STARTING", "operational: false", "svc: STARTING -> OPERATIONAL",
+                    "operational: true", "svc: OPERATIONAL -> null")) {
+                assertEquals(expected, events.poll(5, TimeUnit.SECONDS));
+            }
+            latch.countDown();
+            stuck.close();
+            reg.close();
+
+            service.register("other").close();
+            assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    public void testListenerFallingBehind() throws Exception {
+        var latch = new CountDownLatch(1);
+        var dropped = SettableFuture.<Long>create();
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of())) {
+            service.registerListener(new DiagStatusListener() {
+                @Override
+                public void onServiceStateChanged(ServiceDescriptor previous, ServiceDescriptor current) {
+                    Uninterruptibles.awaitUninterruptibly(latch);
+                }
+
+                @Override
+                public void onNotificationsDropped(long count) {
+                    dropped.set(count);
+                }
+            });
+
+            var svc = service.register("svc");
+            for (int i = 0; i < 2048; i++) {
+                svc.report(new ServiceDescriptor("svc", i % 2 == 0 ? ServiceState.OPERATIONAL : ServiceState.ERROR));
+            }
+            assertFalse(dropped.isDone());
+            latch.countDown();
+            // the listener is told once it has caught up
+            assertTrue(dropped.get(5, TimeUnit.SECONDS) > 0);
+        }
+    }
+
+    @Test
+    public void testHistory() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of(),
+                Settings.DEFAULT.withFlapDetection(4, Duration.ofMinutes(1)))) {
+            var reg = service.register("svc");
+            reg.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL));
+            // unchanged state is not a transition
+            reg.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL, "fine"));
+
+            var history = service.getAllServiceStatusHistories().get(0);
+            assertEquals("svc", history.getServiceName());
+            assertEquals(2, history.getTransitionCount());
+            assertFalse(history.isFlapping());
+            assertEquals(2, service.getTransitionCount("svc"));
+            assertFalse(service.isFlapping("svc"));
+            var first = history.getTransitions().get(0);
+            assertNull(first.getFrom());
+            assertEquals(ServiceState.STARTING, first.getTo());
+
+            // a blip is retained, and a few more of them count as flapping
+            reg.report(new ServiceDescriptor("svc", ServiceState.ERROR, "blip"));
+            reg.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL));
+            history = service.getAllServiceStatusHistories().get(0);
+            assertEquals(4, history.getTransitionCount());
+            assertEquals("blip", history.getTransitions().get(2).getStatusDesc());
+            assertTrue(history.isFlapping());
+            assertEquals(4, service.getTransitionCount("svc"));
+            assertTrue(service.isFlapping("svc"));
+
+            // the history is bounded, keeping the most recent transitions
+            for (int i = 0; i < 100; i++) {
+                reg.report(new ServiceDescriptor("svc", i % 2 == 0 ? ServiceState.ERROR : ServiceState.OPERATIONAL));
+            }
+            history = service.getAllServiceStatusHistories().get(0);
+            assertEquals(104, history.getTransitionCount());
+            assertEquals(16, history.getTransitions().size());
+            assertEquals(ServiceState.OPERATIONAL, history.getTransitions().get(15).getTo());
+
+            reg.close();
+            assertTrue(service.getAllServiceStatusHistories().isEmpty());
+            assertEquals(0, service.getTransitionCount("svc"));
+        }
+    }
+
+    @Test
+    public void testQuery() {
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE),
+                List.of(provider))) {
+            var regs = new ArrayList<ServiceRegistration>();
+            for (int i = 0; i < 10; i++) {
+                var name = "svc" + i;
+                var reg = service.register(name);
+                reg.report(new ServiceDescriptor(name, i % 3 == 0 ? ServiceState.ERROR : ServiceState.OPERATIONAL));
+                reg.setLabels(Set.of(i % 2 == 0 ? "even" : "odd"));
+                regs.add(reg);
+            }
+
+            var page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().build());
+            assertEquals(11, page.getTotal());
+            assertEquals("provided", page.getDescriptors().get(0).getModuleServiceName());
+
+            page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().state(ServiceState.ERROR).build());
+            assertEquals(List.of("svc0", "svc3", "svc6", "svc9"), names(page));
+
+            page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().state(ServiceState.ERROR)
+                .label("even").build());
+            assertEquals(List.of("svc0", "svc6"), names(page));
+
+            page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().namePrefix("svc")
+                .state(ServiceState.OPERATIONAL).state(ServiceState.STARTING).offset(2).limit(3).build());
+            assertEquals(6, page.getTotal());
+            assertEquals(2, page.getOffset());
+            assertEquals(List.of("svc4", "svc5", "svc7"), names(page));
+
+            // indexes follow state and label changes ...
+            regs.get(3).report(new ServiceDescriptor("svc3", ServiceState.OPERATIONAL));
+            regs.get(2).setLabels(Set.of());
+            page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().state(ServiceState.ERROR).build());
+            assertEquals(List.of("svc0", "svc6", "svc9"), names(page));
+            page = service.queryServiceDescriptors(ServiceDescriptorQuery.builder().label("even").build());
+            assertEquals(List.of("svc0", "svc4", "svc6", "svc8"), names(page));
+
+            // ... and unregistration
+            regs.forEach(ServiceRegistration::close);
+            assertEquals(0, service.queryServiceDescriptors(ServiceDescriptorQuery.builder().label("even").build())
+                .getTotal());
+            assertEquals(List.of("provided"), names(service.queryServiceDescriptors(
+                ServiceDescriptorQuery.builder().build())));
+        }
+    }
+
+
+    @Test
+    public void testServiceMXBeans() throws Exception {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var earlyName = new ObjectName(ServiceStatusMXBean.JMX_OBJECT_NAME_PREFIX + ",name=\"early\"");
+        var lateName = new ObjectName(ServiceStatusMXBean.JMX_OBJECT_NAME_PREFIX + ",name=\"late\"");
+        var systemReadyMonitor = new TestSystemReadyMonitor(Behaviour.IMMEDIATE);
+        try (var service = new DiagStatusServiceImpl(systemReadyMonitor, List.of())) {
+            var early = service.register("early");
+            try (var mbean = new DiagStatusServiceMBeanImpl(service, systemReadyMonitor)) {
+                // services registered before the beans are picked up ...
+                assertEquals("STARTING", mbean.acquireServiceStatusMap().get("early"));
+                assertTrue(server.isRegistered(earlyName));
+                assertEquals(1, JMX.newMXBeanProxy(server, earlyName, ServiceStatusMXBean.class).getTransitionCount());
+
+                // ... as are those registered later
+                var late = service.register("late");
+                await().atMost(5, TimeUnit.SECONDS).until(() -> server.isRegistered(lateName));
+                var proxy = JMX.newMXBeanProxy(server, lateName, ServiceStatusMXBean.class);
+                assertEquals("late", proxy.getServiceName());
+                assertEquals(ServiceState.STARTING, proxy.getState());
+                assertEquals(1, proxy.getTransitionCount());
+
+                var notifications = new LinkedBlockingQueue<Notification>();
+                server.addNotificationListener(lateName, (notification, handback) -> notifications.add(notification),
+                    null, null);
+                late.report(new ServiceDescriptor("late", ServiceState.ERROR, "broken"));
+                var notification = (AttributeChangeNotification) notifications.poll(5, TimeUnit.SECONDS);
+                assertEquals("State", notification.getAttributeName());
+                assertEquals("STARTING", notification.getOldValue());
+                assertEquals("ERROR", notification.getNewValue());
+                assertEquals(ServiceState.ERROR, proxy.getState());
+                assertEquals("broken", proxy.getStatusDescription());
+                assertNotNull(proxy.getLastReportTime());
+                assertEquals(2, proxy.getTransitionCount());
+
+                late.close();
+                await().atMost(5, TimeUnit.SECONDS).until(() -> !server.isRegistered(lateName));
+            }
+            assertFalse(server.isRegistered(earlyName));
+            early.close();
+        }
+    }
+
+
+    @Test
+    public void testJournal() throws Exception {
+        var file = tempFolder.getRoot().toPath().resolve("diagstatus.journal");
+        var settings = Settings.DEFAULT.withJournal(file, 8);
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.NEVER), List.of(),
+                settings)) {
+            var reg = service.register("svc");
+            reg.report(new ServiceDescriptor("svc", ServiceState.ERROR, "broken"));
+            reg.close();
+        }
+
+        var entries = StatusJournal.read(file);
+        assertEquals(4, entries.size());
+        assertEquals(SystemState.ACTIVE, entries.get(0).getSystemState());
+        var registered = entries.get(1);
+        assertEquals("svc", registered.getServiceName());
+        assertNull(registered.getFrom());
+        assertEquals(ServiceState.STARTING, registered.getTo());
+        assertEquals(ServiceState.ERROR, entries.get(2).getTo());
+        assertEquals(ServiceState.UNREGISTERED, entries.get(3).getTo());
+
+        // a restart appends to the journal, which only retains the most recent entries
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.NEVER), List.of(),
+                settings)) {
+            var reg = service.register("svc");
+            for (int i = 0; i < 10; i++) {
+                reg.report(new ServiceDescriptor("svc", i % 2 == 0 ? ServiceState.OPERATIONAL : ServiceState.ERROR));
+            }
+        }
+        entries = StatusJournal.read(file);
+        assertEquals(8, entries.size());
+        assertEquals(9, entries.get(0).getSequence());
+        assertEquals(16, entries.get(7).getSequence());
+        assertEquals(ServiceState.OPERATIONAL, entries.get(7).getFrom());
+        assertEquals(ServiceState.ERROR, entries.get(7).getTo());
+    }
+
+    @Test
+    public void testJournalCapacityTooLarge() throws Exception {
+        var file = tempFolder.getRoot().toPath().resolve("diagstatus.journal");
+        // it could not be mapped as a single buffer
+        assertThrows(IllegalArgumentException.class,
+            () -> Settings.DEFAULT.withJournal(file, StatusJournal.MAX_CAPACITY + 1));
+        assertThrows(IllegalArgumentException.class, () -> StatusJournal.open(file, StatusJournal.MAX_CAPACITY + 1));
+    }
+
+    @Test
+    public void testCloseBeforeSystemReady() throws Exception {
+        var file = tempFolder.getRoot().toPath().resolve("diagstatus.journal");
+        var monitor = new SimpleSystemReadyMonitor();
+        new DiagStatusServiceImpl(monitor, List.of(), Settings.DEFAULT.withJournal(file, 8)).close();
+
+        // the closed service is no longer notified
+        monitor.ready();
+        assertEquals(SystemState.ACTIVE, monitor.getSystemState());
+        var entries = StatusJournal.read(file);
+        assertEquals(1, entries.size());
+        assertEquals(SystemState.BOOTING, entries.get(0).getSystemState());
+    }
+
+    private static List<String> names(ServiceDescriptorPage page) {
+        return page.getDescriptors().stream().map(ServiceDescriptor::getModuleServiceName).toList();
+    }
+}
@@ -12,8 +12,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import javax.inject.Inject;
 import org.junit.Rule;
@@ -126,6 +131,52 @@ public class DiagStatusTest {
         assertEquals("This is totally borked!", reportStatus.getErrorCause().orElseThrow().getMessage());
     }
 
+    @Test
+    public void testErrorCauseSummary() {
+        Throwable error = new IllegalStateException("root");
+        for (int i = 0; i < 50; ++i) {
+            error = new IllegalArgumentException("level " + i, error);
+        }
+        for (int i = 0; i < 10; ++i) {
+            error.addSuppressed(new IOException("suppressed " + i));
+        }
+        var descriptor = new ServiceDescriptor("testService", error);
+        var cause = descriptor.getErrorCause().orElseThrow();
+
+        // a detached copy, which still looks like the original
+        assertNotSame(error, cause);
+        assertEquals(error.toString(), cause.toString());
+        assertEquals(error.getStackTrace()[0], cause.getStackTrace()[0]);
+        assertTrue(cause.getSuppressed().length < 10);
+
+        int depth = 0;
+        Throwable last = cause;
+        while (last.getCause() != null) {
+            last = last.getCause();
+            depth++;
+        }
+        assertTrue(depth < 50);
+        assertEquals("level 49", cause.getMessage());
+
+        // summaries of the same error are equal, so reporting it again does not change the status
+        assertEquals(descriptor.getErrorCause(), new ServiceDescriptor("testService", error).getErrorCause());
+
+        var reg = diagStatusService.register("testService");
+        reg.report(descriptor);
+        var deserialized = ServiceStatusSummary.fromJSON(diagStatusService.getServiceStatusSummary().toJSON())
+            .getStatusSummary().iterator().next().getErrorCause().orElseThrow();
+        assertEquals("IllegalArgumentException: level 49", deserialized.toString());
+        assertEquals(cause.getSuppressed().length, deserialized.getSuppressed().length);
+    }
+
+    @Test
+    public void testLongErrorMessage() {
+        var descriptor = new ServiceDescriptor("testService", new IOException("x".repeat(5000)));
+        var message = descriptor.getErrorCause().orElseThrow().getMessage();
+        assertTrue(message.length() < 5000);
+        assertTrue(message.endsWith("..."));
+    }
+
     @Test
     public void testThrowable() {
         var testService1 = "testService";
@@ -142,4 +193,27 @@ public class DiagStatusTest {
                 .replaceAll("\"statusTimestamp\":.*\\n",
                         "\"statusTimestamp\": \"{DO-NOT-BOTHER}\",\n"));
     }
+
+    @Test
+    public void testStreamingJSON() throws IOException {
+        var reg = diagStatusService.register("testService");
+        reg.report(new ServiceDescriptor("testService", ServiceState.OPERATIONAL, "service is UP"));
+        var summary = diagStatusService.getServiceStatusSummary();
+
+        var pretty = new StringWriter();
+        summary.writeJSON(pretty, true);
+        assertEquals(summary.toJSON(), pretty.toString());
+
+        var compact = new ByteArrayOutputStream();
+        summary.writeJSON(compact);
+        var compactJSON = compact.toString(StandardCharsets.UTF_8);
+        assertFalse(compactJSON.contains("\n"));
+        assertEquals(summary, ServiceStatusSummary.fromJSON(compactJSON));
+
+        // the cached form is the same as the streamed one
+        var streamed = new ByteArrayOutputStream();
+        summary.writeJSON(streamed, false);
+        assertEquals(compactJSON, streamed.toString(StandardCharsets.UTF_8));
+        reg.close();
+    }
 }
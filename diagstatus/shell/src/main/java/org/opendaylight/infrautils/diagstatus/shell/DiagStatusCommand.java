@@ -12,6 +12,7 @@ import java.net.InetAddress;
 import java.util.Date;
 import org.apache.karaf.shell.api.action.Action;
 import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.Option;
 import org.apache.karaf.shell.api.action.lifecycle.Reference;
 import org.apache.karaf.shell.api.action.lifecycle.Service;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,11 +30,18 @@ public class DiagStatusCommand implements Action {
     @VisibleForTesting
     DiagStatusServiceMBean diagStatusServiceMBean;
 
+    @Option(name = "--history", description = "show recent state transitions of each service")
+    @VisibleForTesting
+    boolean history;
+
     @Override
     @SuppressWarnings("checkstyle:RegexpSinglelineJava")
     public @Nullable Object execute() throws Exception {
         System.out.println("Timestamp: " + new Date());
         System.out.println(getLocalStatusSummary(InetAddress.getLoopbackAddress()));
+        if (history) {
+            System.out.println(diagStatusServiceMBean.acquireServiceStatusHistory());
+        }
         return null;
     }
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.shell;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import org.apache.karaf.shell.api.action.Action;
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.Option;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.StatusJournal;
+
+/**
+ * CLI for showing the contents of a diagstatus journal file, for example one left behind by a crashed controller.
+ */
+@Command(scope = "diagstatus", name = "showJournal", description = "show the state transitions recorded in a journal")
+@Service
+public class DiagStatusJournalCommand implements Action {
+    @Argument(name = "file", description = "journal file, as configured by journal-file", required = true)
+    @VisibleForTesting
+    String file;
+
+    @Option(name = "--tail", description = "show only this many most recent entries")
+    @VisibleForTesting
+    int tail;
+
+    @Override
+    @SuppressWarnings("checkstyle:RegexpSinglelineJava")
+    public @Nullable Object execute() throws Exception {
+        System.out.print(formatJournal());
+        return null;
+    }
+
+    @VisibleForTesting
+    String formatJournal() throws IOException {
+        var entries = StatusJournal.read(Path.of(file));
+        var skip = tail > 0 ? Math.max(0, entries.size() - tail) : 0;
+        return entries.stream().skip(skip).map(entry -> entry.format() + '\n').collect(Collectors.joining());
+    }
+}
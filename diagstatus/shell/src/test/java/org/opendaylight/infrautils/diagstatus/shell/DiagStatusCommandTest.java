@@ -8,6 +8,7 @@
 package org.opendaylight.infrautils.diagstatus.shell;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.opendaylight.infrautils.diagstatus.ServiceState.OPERATIONAL;
 
 import com.google.common.net.InetAddresses;
@@ -64,6 +65,14 @@ public class DiagStatusCommandTest {
         checkGetRemoteStatusSummary(InetAddresses.forString("::1"));
     }
 
+    @Test
+    public void testHistory() {
+        var history = diagStatusServiceMBeanImpl.acquireServiceStatusHistory();
+        assertTrue(history, history.startsWith("testService (2 transitions)\n"));
+        assertTrue(history, history.contains(" null -> STARTING (INITIALIZING)\n"));
+        assertTrue(history, history.contains(" STARTING -> OPERATIONAL (operational)\n"));
+    }
+
     private void checkGetRemoteStatusSummary(InetAddress inetAddress) throws Exception {
         assertEquals("""
             Node IP Address: {node-ip}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.shell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.infrautils.diagstatus.ServiceState.OPERATIONAL;
+
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl.Settings;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor.Behaviour;
+
+/**
+ * Test for {@link DiagStatusJournalCommand}.
+ */
+public class DiagStatusJournalCommandTest {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testShowJournal() throws Exception {
+        var file = tempFolder.getRoot().toPath().resolve("diagstatus.journal");
+        try (var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of(),
+                Settings.DEFAULT.withJournal(file, 16))) {
+            var reg = service.register("testService");
+            reg.report(new ServiceDescriptor("testService", OPERATIONAL, "operational"));
+        }
+
+        var command = new DiagStatusJournalCommand();
+        command.file = file.toString();
+        var lines = command.formatJournal().lines().toList();
+        assertEquals(lines.toString(), 4, lines.size());
+        assertTrue(lines.get(0), lines.get(0).endsWith(" #1 system ACTIVE"));
+        assertTrue(lines.get(3), lines.get(3).endsWith(" #4 testService STARTING -> OPERATIONAL"));
+
+        command.tail = 1;
+        assertEquals(lines.get(3) + '\n', command.formatJournal());
+    }
+}
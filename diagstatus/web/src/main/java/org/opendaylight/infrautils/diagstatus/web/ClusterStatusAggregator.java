@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates the {@link ServiceStatusSummary} of the local node with those of its peers, which are queried through
+ * their {@code /diagstatus} endpoints. All peers are queried concurrently and a peer which does not answer within the
+ * timeout is reported as such, hence obtaining the cluster view takes at most the timeout, no matter how many peers
+ * there are. A zero timeout waits for peers for as long as it takes. The result is cached for a short while, so that a
+ * burst of requests results in a single round of queries.
+ */
+// package-local not public (for the time being)
+final class ClusterStatusAggregator implements AutoCloseable {
+    /**
+     * Status of a single node, either its summary or the reason why it could not be obtained.
+     */
+    record NodeStatus(String node, @Nullable ServiceStatusSummary summary, @Nullable String error) {
+        NodeStatus {
+            requireNonNull(node);
+        }
+
+        boolean isOperational() {
+            return summary != null && summary.isOperational();
+        }
+    }
+
+    /**
+     * Status of all nodes, the local one first.
+     */
+    record ClusterStatus(ImmutableList<NodeStatus> nodes) {
+        ClusterStatus {
+            requireNonNull(nodes);
+        }
+
+        boolean isOperational() {
+            return nodes.stream().allMatch(NodeStatus::isOperational);
+        }
+    }
+
+    static final String LOCAL_NODE = "local";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterStatusAggregator.class);
+
+    private final DiagStatusService diagStatusService;
+    private final ImmutableList<URI> peers;
+    private final Duration timeout;
+    private final ListeningExecutorService executor;
+    private final HttpClient client;
+    private final Supplier<ClusterStatus> cache;
+
+    ClusterStatusAggregator(DiagStatusService diagStatusService, List<URI> peers, Duration timeout,
+            Duration cacheTime) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+        this.peers = ImmutableList.copyOf(peers);
+        checkArgument(!timeout.isNegative(), "Negative timeout %s", timeout);
+        this.timeout = timeout;
+        executor = Executors.newListeningCachedThreadPool("diagstatus-cluster", LOG);
+        // HttpClient does not accept a zero timeout, it needs to be left out instead
+        var builder = HttpClient.newBuilder().executor(executor);
+        if (!timeout.isZero()) {
+            builder.connectTimeout(timeout);
+        }
+        client = builder.build();
+        // Concurrent callers wait for the one refreshing the cache, rather than querying peers on their own
+        cache = cacheTime.isZero() ? this::queryAll
+            : Suppliers.memoizeWithExpiration(this::queryAll, cacheTime.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Return the status of all nodes, which may have been cached.
+     *
+     * @return cluster status
+     */
+    ClusterStatus getClusterStatus() {
+        return cache.get();
+    }
+
+    @Override
+    public void close() {
+        // Close the client first, so that it does not hand anything more to the executor
+        client.close();
+        Executors.shutdownAndAwaitTermination(executor);
+    }
+
+    private ClusterStatus queryAll() {
+        var futures = new ArrayList<CompletableFuture<NodeStatus>>(peers.size());
+        for (var peer : peers) {
+            futures.add(query(peer));
+        }
+
+        var nodes = ImmutableList.<NodeStatus>builderWithExpectedSize(peers.size() + 1);
+        // Query the local node while the peers are busy answering
+        nodes.add(new NodeStatus(LOCAL_NODE, diagStatusService.getServiceStatusSummary(), null));
+        for (var future : futures) {
+            // never fails, and completes within the timeout
+            nodes.add(future.join());
+        }
+        return new ClusterStatus(nodes.build());
+    }
+
+    private CompletableFuture<NodeStatus> query(URI peer) {
+        var node = peer.toString();
+        var builder = HttpRequest.newBuilder(peer).header("Accept", "application/json").GET();
+        if (!timeout.isZero()) {
+            builder.timeout(timeout);
+        }
+        @Var CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = client.sendAsync(builder.build(), BodyHandlers.ofString());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(new NodeStatus(node, null, e.toString()));
+        }
+        if (!timeout.isZero()) {
+            // The client's timeouts cover individual phases of the exchange, make sure we never wait longer than asked
+            response = response.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return response.handle((resp, failure) -> {
+            if (failure != null) {
+                return new NodeStatus(node, null, describe(failure));
+            }
+            return parse(node, resp);
+        });
+    }
+
+    // Whatever a peer sends us must not fail the aggregation, which relies on every query completing normally
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static NodeStatus parse(String node, HttpResponse<String> response) {
+        var status = response.statusCode();
+        // 503 is how a non-operational node answers, it still provides the summary
+        if (status != 200 && status != 503) {
+            return new NodeStatus(node, null, "Unexpected HTTP status " + status);
+        }
+        var body = response.body();
+        if (body == null || body.isBlank()) {
+            return new NodeStatus(node, null, "Empty response");
+        }
+        final ServiceStatusSummary summary;
+        try {
+            summary = ServiceStatusSummary.fromJSON(body);
+        } catch (RuntimeException e) {
+            // not only JsonParseException, but also DateTimeParseException and friends from the type adapters
+            LOG.debug("Failed to parse status of {}", node, e);
+            return new NodeStatus(node, null, "Invalid response: " + e.getMessage());
+        }
+        return summary != null ? new NodeStatus(node, summary, null) : new NodeStatus(node, null, "Empty response");
+    }
+
+    private String describe(Throwable failure) {
+        var cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+            : failure;
+        if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+            return "No response within " + timeout;
+        }
+        return cause.toString();
+    }
+}
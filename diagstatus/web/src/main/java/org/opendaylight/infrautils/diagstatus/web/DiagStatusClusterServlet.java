@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import com.google.gson.stream.JsonWriter;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+/**
+ * Web Servlet providing a cluster-wide view of diagstatus. It returns the summary of this node together with those of
+ * the configured peers, queried through their {@code /diagstatus} endpoints, and HTTP status 200 only if all of them
+ * are operational.
+ */
+@HttpWhiteboardServletPattern("/diagstatus/cluster")
+@HttpWhiteboardServletName("DiagStatusClusterServlet")
+@Component(service = Servlet.class, configurationPid = "org.opendaylight.infrautils.diagstatus.cluster")
+@Designate(ocd = DiagStatusClusterServlet.Config.class)
+public final class DiagStatusClusterServlet extends HttpServlet {
+    @ObjectClassDefinition
+    public @interface Config {
+        @AttributeDefinition(name = "peer-urls",
+            description = "URLs of the /diagstatus endpoints of the other cluster members")
+        String[] peerUrls() default {};
+
+        @AttributeDefinition(name = "timeout-millis",
+            description = "Time to wait for peers to respond, 0 to wait for as long as it takes")
+        long timeoutMillis() default 2000;
+
+        @AttributeDefinition(name = "cache-millis", description = "Time for which the cluster view is reused")
+        long cacheMillis() default 1000;
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    // see DiagStatusServlet
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final ClusterStatusAggregator aggregator;
+
+    /**
+     * Construct a new servlet backed by specified {@link DiagStatusService}.
+     *
+     * @param diagStatusService backing instance
+     * @param peers URLs of peer /diagstatus endpoints
+     * @param timeout time to wait for peers to respond, {@link Duration#ZERO} to wait for as long as it takes
+     * @param cacheTime time for which the cluster view is reused, {@link Duration#ZERO} to query peers on each request
+     */
+    public DiagStatusClusterServlet(DiagStatusService diagStatusService, List<URI> peers, Duration timeout,
+            Duration cacheTime) {
+        aggregator = new ClusterStatusAggregator(diagStatusService, peers, timeout, cacheTime);
+    }
+
+    @Activate
+    public DiagStatusClusterServlet(@Reference DiagStatusService diagStatusService, Config config) {
+        this(diagStatusService, Arrays.stream(config.peerUrls()).map(URI::create).toList(),
+            Duration.ofMillis(config.timeoutMillis()), Duration.ofMillis(config.cacheMillis()));
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        var status = aggregator.getClusterStatus();
+        if (!status.isOperational()) {
+            // as DiagStatusServlet does, so scripts need not parse the JSON
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        response.setContentType("application/json");
+        response.setCharacterEncoding("utf-8");
+
+        try (var writer = response.getWriter(); var json = new JsonWriter(writer)) {
+            json.beginObject().name("isOperational").value(status.isOperational()).name("nodes").beginArray();
+            for (var node : status.nodes()) {
+                json.beginObject().name("node").value(node.node()).name("isOperational").value(node.isOperational());
+                var summary = node.summary();
+                if (summary != null) {
+                    var summaryJson = new StringWriter();
+                    summary.writeJSON(summaryJson, false);
+                    json.name("summary").jsonValue(summaryJson.toString());
+                } else {
+                    json.name("error").value(node.error());
+                }
+                json.endObject();
+            }
+            json.endArray().endObject();
+            writer.write('\n');
+        }
+    }
+
+    @Override
+    public void destroy() {
+        aggregator.close();
+        super.destroy();
+    }
+}
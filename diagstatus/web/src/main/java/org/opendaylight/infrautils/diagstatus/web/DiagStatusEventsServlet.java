@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ListeningScheduledExecutorService;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.utils.concurrent.Executors;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletAsyncSupported;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Web Servlet streaming diagstatus changes as <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">
+ * Server-Sent Events</a>. A stream starts with a {@code summary} event carrying the complete JSON summary, followed by
+ * a {@code transition} event for each service whose state changes and an {@code operational} event whenever the
+ * overall operational status flips. Each event is identified by the summary version it was derived from.
+ */
+@HttpWhiteboardServletPattern("/diagstatus/events")
+@HttpWhiteboardServletName("DiagStatusEventsServlet")
+@HttpWhiteboardServletAsyncSupported
+@Component(service = Servlet.class)
+public final class DiagStatusEventsServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOG = LoggerFactory.getLogger(DiagStatusEventsServlet.class);
+
+    // see DiagStatusServlet
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final DiagStatusService diagStatusService;
+    // Drives keepalives of all streams, which is all it ever does, hence a single thread is plenty
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final ListeningScheduledExecutorService scheduler =
+        Executors.newListeningSingleThreadScheduledExecutor("diagstatus-events", LOG);
+
+    /**
+     * Construct a new servlet backed by specified {@link DiagStatusService}.
+     *
+     * @param diagStatusService backing instance
+     */
+    @Activate
+    public DiagStatusEventsServlet(@Reference DiagStatusService diagStatusService) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        var summary = diagStatusService.getServiceStatusSummary();
+        var next = diagStatusService.awaitServiceStatusSummary(summary.getVersion());
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("utf-8");
+        response.setHeader("Cache-Control", "no-cache");
+
+        var async = req.startAsync();
+        // the stream lasts until the client goes away, keepalives make sure we notice
+        async.setTimeout(0);
+        new EventStream(diagStatusService, scheduler, async, response.getOutputStream()).start(summary, next);
+    }
+
+    @Override
+    public void destroy() {
+        Executors.shutdownAndAwaitTermination(scheduler);
+        super.destroy();
+    }
+}
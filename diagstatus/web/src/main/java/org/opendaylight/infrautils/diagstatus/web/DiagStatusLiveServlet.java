@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opendaylight.infrautils.ready.SystemReadyMonitor;
+import org.opendaylight.infrautils.ready.SystemState;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+
+/**
+ * Web Servlet for liveness probes. It answers with HTTP status 200 unless the system has failed to start, in which
+ * case it answers with 503. A system which is still booting is considered alive. The answer is derived from the
+ * {@link SystemReadyMonitor} state alone and has a constant-size body, so that frequent probes cost next to nothing.
+ */
+@HttpWhiteboardServletPattern("/diagstatus/live")
+@HttpWhiteboardServletName("DiagStatusLiveServlet")
+@Component(service = Servlet.class)
+public final class DiagStatusLiveServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    // see DiagStatusServlet
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final SystemReadyMonitor systemReadyMonitor;
+
+    /**
+     * Construct a new servlet backed by specified {@link SystemReadyMonitor}.
+     *
+     * @param systemReadyMonitor backing instance
+     */
+    @Activate
+    public DiagStatusLiveServlet(@Reference SystemReadyMonitor systemReadyMonitor) {
+        this.systemReadyMonitor = requireNonNull(systemReadyMonitor);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        ProbeResponse.write(response, systemReadyMonitor.getSystemState() != SystemState.FAILURE);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.ready.SystemState;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+
+/**
+ * Web Servlet exposing diagstatus in the OpenMetrics text format, for scraping by Prometheus and compatible monitoring
+ * systems. Each scrape fetches the {@link DiagStatusService#getServiceStatusSummary() summary} once, everything else
+ * is looked up per service without polling providers again.
+ */
+@HttpWhiteboardServletPattern("/diagstatus/metrics")
+@HttpWhiteboardServletName("DiagStatusMetricsServlet")
+@Component(service = Servlet.class)
+public final class DiagStatusMetricsServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final ServiceState[] SERVICE_STATES = ServiceState.values();
+    private static final SystemState[] SYSTEM_STATES = SystemState.values();
+
+    // see DiagStatusServlet
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final DiagStatusService diagStatusService;
+
+    /**
+     * Construct a new servlet backed by specified {@link DiagStatusService}.
+     *
+     * @param diagStatusService backing instance
+     */
+    @Activate
+    public DiagStatusMetricsServlet(@Reference DiagStatusService diagStatusService) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        var summary = diagStatusService.getServiceStatusSummary();
+        var now = System.currentTimeMillis();
+
+        // rendered straight into the response, which does its own buffering
+        response.setContentType(CONTENT_TYPE);
+        try (var writer = response.getWriter()) {
+            writeMetrics(new OpenMetricsWriter(writer), summary, now);
+        }
+    }
+
+    private void writeMetrics(OpenMetricsWriter out, ServiceStatusSummary summary, long now) throws IOException {
+        var services = summary.getStatusSummary();
+        out.family("diagstatus_operational", "gauge", "Whether the system is operational");
+        out.sample("diagstatus_operational").value(summary.isOperational());
+
+        out.family("diagstatus_system_state", "stateset", "System ready state");
+        var systemState = summary.getSystemReadyState();
+        for (var state : SYSTEM_STATES) {
+            out.sample("diagstatus_system_state", "diagstatus_system_state", state.name()).value(state == systemState);
+        }
+
+        out.family("diagstatus_service_state", "stateset", "Service state");
+        for (var service : services) {
+            var serviceState = service.getServiceState();
+            for (var state : SERVICE_STATES) {
+                out.sample("diagstatus_service_state", "service", service.getModuleServiceName(),
+                    "diagstatus_service_state", state.name()).value(state == serviceState);
+            }
+        }
+
+        out.family("diagstatus_service_report_age_seconds", "gauge", "Time since the service last reported its status");
+        for (var service : services) {
+            var name = service.getModuleServiceName();
+            var lastReport = diagStatusService.getLastReportTime(name);
+            if (lastReport.isPresent()) {
+                out.sample("diagstatus_service_report_age_seconds", "service", name)
+                    .seconds(now - lastReport.orElseThrow().toEpochMilli());
+            }
+        }
+
+        out.family("diagstatus_service_transitions", "counter", "Service state transitions");
+        for (var service : services) {
+            var name = service.getModuleServiceName();
+            out.sample("diagstatus_service_transitions_total", "service", name)
+                .value(diagStatusService.getTransitionCount(name));
+        }
+        out.family("diagstatus_service_flapping", "gauge", "Whether the service is flapping between states");
+        for (var service : services) {
+            var name = service.getModuleServiceName();
+            out.sample("diagstatus_service_flapping", "service", name).value(diagStatusService.isFlapping(name));
+        }
+        out.eof();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+
+/**
+ * Web Servlet for readiness probes. It answers with HTTP status 200 if the system is operational and with 503
+ * otherwise, like {@link DiagStatusServlet} does, but with a constant-size body and based on
+ * {@link DiagStatusService#isLastKnownOperational()}, so that no {@code ServiceStatusProvider} is polled while serving
+ * the probe. Changes reported by providers are hence only seen once the service has polled them in the background,
+ * which the default service does periodically if configured with a {@code provider-refresh-interval-millis}, and
+ * otherwise after each probe, so that a probe sees what providers reported as of the previous one.
+ */
+@HttpWhiteboardServletPattern("/diagstatus/ready")
+@HttpWhiteboardServletName("DiagStatusReadyServlet")
+@Component(service = Servlet.class)
+public final class DiagStatusReadyServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    // see DiagStatusServlet
+    @SuppressFBWarnings("SE_BAD_FIELD")
+    private final DiagStatusService diagStatusService;
+
+    /**
+     * Construct a new servlet backed by specified {@link DiagStatusService}.
+     *
+     * @param diagStatusService backing instance
+     */
+    @Activate
+    public DiagStatusReadyServlet(@Reference DiagStatusService diagStatusService) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        ProbeResponse.write(response, diagStatusService.isLastKnownOperational());
+    }
+}
@@ -7,33 +7,73 @@
  */
 package org.opendaylight.infrautils.diagstatus.web;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Servlet;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorPage;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorQuery;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusHistory;
 import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletAsyncSupported;
 import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletName;
 import org.osgi.service.http.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Web Servlet for diagstatus which returns JSON and HTTP status code.
+ * Web Servlet for diagstatus which returns JSON and HTTP status code. The JSON is compact, unless the {@code pretty}
+ * query parameter is present.
+ *
+ * <p>Responses carry the summary version in an {@code X-DiagStatus-Version} header. A request with a
+ * {@code sinceVersion} query parameter is answered only once the summary has moved past that version, or after a
+ * timeout with the then-current summary. A request with a {@code history} query parameter is answered with the recent
+ * state transitions of each service instead.
+ *
+ * <p>A request with any of the {@code state}, {@code prefix}, {@code label}, {@code offset}, {@code limit} or
+ * {@code fields} query parameters is answered with a {@link ServiceDescriptorPage} of only those services which match,
+ * for example {@code ?state=ERROR&fields=serviceName,reportedStatusDescription&limit=50}. Multiple states and fields
+ * are separated by commas.
  *
  * @author Michael Vorburger.ch
  */
 // FIXME: @WebServlet?
 @HttpWhiteboardServletPattern("/diagstatus")
 @HttpWhiteboardServletName("DiagStatusServlet")
+@HttpWhiteboardServletAsyncSupported
 @Component(service = Servlet.class)
 public final class DiagStatusServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
+    private static final Logger LOG = LoggerFactory.getLogger(DiagStatusServlet.class);
+    private static final String VERSION_HEADER = "X-DiagStatus-Version";
+    // Comfortably below common proxy and connector idle timeouts
+    private static final long LONG_POLL_TIMEOUT_MILLIS = 25_000;
+    private static final ImmutableList<String> QUERY_PARAMETERS =
+        ImmutableList.of("state", "prefix", "label", "offset", "limit", "fields");
+    private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
 
     // Suppress FindBugs warning, because DiagStatusService is not Serializable;
     // it's not like we'll ever run this Servlet in a distributed web container which
@@ -53,21 +93,232 @@ public final class DiagStatusServlet extends HttpServlet {
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        if (isSet(req, "history")) {
+            writeHistory(req, response);
+            return;
+        }
+        if (isQuery(req)) {
+            writeQuery(req, response);
+            return;
+        }
+        var sinceVersion = req.getParameter("sinceVersion");
+        if (sinceVersion != null) {
+            longPoll(req, response, sinceVersion);
+        } else {
+            writeSummary(req, response, diagStatusService.getServiceStatusSummary());
+        }
+    }
+
+    private void longPoll(HttpServletRequest req, HttpServletResponse response, String sinceVersion)
+            throws IOException {
+        final long version;
+        try {
+            version = Long.parseLong(sinceVersion);
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid sinceVersion " + sinceVersion);
+            return;
+        }
+
+        var future = diagStatusService.awaitServiceStatusSummary(version);
+        if (future.isDone()) {
+            writeSummary(req, response, getDone(future));
+            return;
+        }
+
+        // Do not hold a container thread while waiting: the response is written either when the future completes, or
+        // with the then-current summary when the wait times out
+        var async = req.startAsync();
+        async.setTimeout(LONG_POLL_TIMEOUT_MILLIS);
+        var done = new AtomicBoolean();
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (done.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    writeSummary(req, response, diagStatusService.getServiceStatusSummary());
+                    async.complete();
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                done.set(true);
+                future.cancel(false);
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                // no-op
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // no-op
+            }
+        });
+        future.addListener(() -> {
+            if (!future.isCancelled() && done.compareAndSet(false, true)) {
+                // write from a container thread, not from whoever completed the future
+                async.start(() -> {
+                    try {
+                        writeSummary(req, response, getDone(future));
+                    } catch (IOException e) {
+                        LOG.debug("Failed to write long-poll response", e);
+                    } finally {
+                        async.complete();
+                    }
+                });
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void writeHistory(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        var histories = diagStatusService.getAllServiceStatusHistories();
+        response.setContentType("application/json");
+        response.setCharacterEncoding("utf-8");
+        try (var writer = response.getWriter()) {
+            ServiceStatusHistory.writeJSON(histories, writer, isSet(req, "pretty"));
+            writer.write('\n');
+        }
+    }
+
+    private static boolean isQuery(HttpServletRequest req) {
+        for (var param : QUERY_PARAMETERS) {
+            if (req.getParameter(param) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeQuery(HttpServletRequest req, HttpServletResponse response) throws IOException {
+        final ServiceDescriptorQuery query;
+        final Set<String> fields;
+        try {
+            query = parseQuery(req);
+            fields = ImmutableSet.copyOf(split(req.getParameter("fields")));
+            for (var field : fields) {
+                checkArgument(ServiceDescriptorPage.FIELDS.contains(field), "Unknown field %s", field);
+            }
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        var page = diagStatusService.queryServiceDescriptors(query);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("utf-8");
+        try (var writer = response.getWriter()) {
+            page.writeJSON(writer, isSet(req, "pretty"), fields);
+            writer.write('\n');
+        }
+    }
+
+    private static ServiceDescriptorQuery parseQuery(HttpServletRequest req) {
+        var builder = ServiceDescriptorQuery.builder();
+        for (var state : split(req.getParameter("state"))) {
+            // throws IllegalArgumentException for unknown states
+            builder.state(ServiceState.valueOf(state));
+        }
+        var prefix = req.getParameter("prefix");
+        if (prefix != null) {
+            builder.namePrefix(prefix);
+        }
+        var label = req.getParameter("label");
+        if (label != null) {
+            builder.label(label);
+        }
+        var offset = req.getParameter("offset");
+        if (offset != null) {
+            // NumberFormatException is an IllegalArgumentException
+            builder.offset(Integer.parseInt(offset));
+        }
+        var limit = req.getParameter("limit");
+        if (limit != null) {
+            builder.limit(Integer.parseInt(limit));
+        }
+        return builder.build();
+    }
+
+    private static List<String> split(@Nullable String param) {
+        return param == null ? List.of() : COMMA_SPLITTER.splitToList(param);
+    }
+
+    private static ServiceStatusSummary getDone(ListenableFuture<ServiceStatusSummary> future) throws IOException {
+        try {
+            return Futures.getDone(future);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to acquire status summary", e.getCause());
+        }
+    }
+
+    private static void writeSummary(HttpServletRequest req, HttpServletResponse response,
+            ServiceStatusSummary status) throws IOException {
         // use setStatus() NOT sendError(), because we are providing the response
         // INFRAUTILS-47: MUST use setStatus() *BEFORE* response.getWriter()
-
-        ServiceStatusSummary status = diagStatusService.getServiceStatusSummary();
+        var pretty = isSet(req, "pretty");
+        var version = status.getVersion();
+        if (version != 0) {
+            // allows clients to long-poll for the next version
+            response.setHeader(VERSION_HEADER, Long.toString(version));
+        }
         if (!status.isOperational()) {
             // HTTP return code 503 instead of regular 200 is used so that scripts
             // who just want boolean status don't have to parse the JSON, if not interested.
             response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } else {
+            // Only successful responses are cacheable, hence they are the only ones worth validating
+            var etag = etagOf(status, pretty);
+            if (etag != null) {
+                response.setHeader("ETag", etag);
+                response.setHeader("Cache-Control", "no-cache");
+                if (matches(req.getHeader("If-None-Match"), etag)) {
+                    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    return;
+                }
+            }
         }
 
         response.setContentType("application/json");
         response.setCharacterEncoding("utf-8");
 
-        try (var printWriter = response.getWriter()) {
-            printWriter.println(status.toJSON());
+        try (var out = response.getOutputStream()) {
+            if (pretty) {
+                status.writeJSON(out, true);
+            } else {
+                // compact form is cached by the summary
+                status.writeJSON(out);
+            }
+            out.write('\n');
+        }
+    }
+
+    // Flags are set by either "?flag" or "?flag=true", e.g. compact JSON is the default, "?pretty" asks for
+    // human-friendly output
+    private static boolean isSet(HttpServletRequest req, String flag) {
+        var value = req.getParameter(flag);
+        return value != null && (value.isEmpty() || Boolean.parseBoolean(value));
+    }
+
+    // Versions are only unique within a DiagStatusService instance, the timestamp tells instances apart
+    private static @Nullable String etagOf(ServiceStatusSummary status, boolean pretty) {
+        var version = status.getVersion();
+        return version == 0 ? null : "\"" + Long.toHexString(version) + '-'
+            + Long.toHexString(status.getTimeStamp().toEpochMilli()) + (pretty ? "-p" : "") + '"';
+    }
+
+    private static boolean matches(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (var candidate : ifNoneMatch.split(",")) {
+            var trimmed = candidate.trim();
+            // If-None-Match uses weak comparison
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.startsWith("W/") && trimmed.substring(2)
+                .equals(etag)) {
+                return true;
+            }
         }
+        return false;
     }
 }
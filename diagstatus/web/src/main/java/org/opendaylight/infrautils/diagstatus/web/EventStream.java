@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single Server-Sent Events stream. The stream waits for the next summary version without holding any container
+ * thread and writes whatever has changed since the previous one. At most one wait is outstanding at any time, hence
+ * writes are never concurrent. A {@link DiagStatusService} which does not version its summaries cannot be waited on,
+ * hence it is polled every {@value #KEEPALIVE_SECONDS} seconds instead.
+ */
+// package-local not public (for the time being)
+final class EventStream implements FutureCallback<ServiceStatusSummary>, AsyncListener {
+    private static final Logger LOG = LoggerFactory.getLogger(EventStream.class);
+    // Comfortably below common proxy and connector idle timeouts
+    private static final long KEEPALIVE_SECONDS = 15;
+
+    private final DiagStatusService diagStatusService;
+    private final ScheduledExecutorService scheduler;
+    private final AsyncContext async;
+    private final ServletOutputStream out;
+
+    // Only accessed from callbacks, which are strictly sequential
+    private @Nullable ServiceStatusSummary last;
+    private volatile @Nullable ListenableFuture<ServiceStatusSummary> pending;
+    private volatile boolean closed;
+
+    EventStream(DiagStatusService diagStatusService, ScheduledExecutorService scheduler, AsyncContext async,
+            ServletOutputStream out) {
+        this.diagStatusService = requireNonNull(diagStatusService);
+        this.scheduler = requireNonNull(scheduler);
+        this.async = requireNonNull(async);
+        this.out = requireNonNull(out);
+    }
+
+    void start(ServiceStatusSummary summary, ListenableFuture<ServiceStatusSummary> next) throws IOException {
+        async.addListener(this);
+        out.print("event: summary\nid: " + summary.getVersion() + "\ndata: ");
+        summary.writeJSON(out);
+        out.print("\n\n");
+        out.flush();
+        last = summary;
+        awaitNext(next);
+    }
+
+    @Override
+    public void onSuccess(ServiceStatusSummary summary) {
+        if (closed) {
+            return;
+        }
+        var prev = requireNonNull(last);
+        var version = summary.getVersion();
+        var waited = version > prev.getVersion();
+        try {
+            writeChanges(prev, summary);
+            if (!waited) {
+                // we are polling, this is as good a time for a keepalive as any
+                out.print(": keepalive\n\n");
+                out.flush();
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to write events, closing stream", e);
+            close();
+            return;
+        }
+        last = summary;
+        if (waited) {
+            awaitNext();
+            return;
+        }
+
+        // the service has not waited for a change, do not ask it again right away
+        final ListenableFuture<ServiceStatusSummary> future;
+        try {
+            future = Futures.scheduleAsync(() -> diagStatusService.awaitServiceStatusSummary(version),
+                KEEPALIVE_SECONDS, TimeUnit.SECONDS, scheduler);
+        } catch (RejectedExecutionException e) {
+            // the servlet is being destroyed
+            LOG.debug("Poll scheduling rejected, closing stream", e);
+            close();
+            return;
+        }
+        listen(future);
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+        if (closed) {
+            return;
+        }
+        if (!(cause instanceof TimeoutException)) {
+            LOG.debug("Failed to await summary, closing stream", cause);
+            close();
+            return;
+        }
+        try {
+            out.print(": keepalive\n\n");
+            out.flush();
+        } catch (IOException e) {
+            LOG.debug("Failed to write keepalive, closing stream", e);
+            close();
+            return;
+        }
+        awaitNext();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        stop();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // no-op
+    }
+
+    private void awaitNext() {
+        awaitNext(diagStatusService.awaitServiceStatusSummary(requireNonNull(last).getVersion()));
+    }
+
+    private void awaitNext(ListenableFuture<ServiceStatusSummary> next) {
+        final ListenableFuture<ServiceStatusSummary> future;
+        try {
+            future = Futures.withTimeout(next, KEEPALIVE_SECONDS, TimeUnit.SECONDS, scheduler);
+        } catch (RejectedExecutionException e) {
+            // the servlet is being destroyed
+            LOG.debug("Keepalive scheduling rejected, closing stream", e);
+            next.cancel(false);
+            close();
+            return;
+        }
+        listen(future);
+    }
+
+    private void listen(ListenableFuture<ServiceStatusSummary> future) {
+        pending = future;
+        // write from a container thread, not from whoever completed the future
+        Futures.addCallback(future, this, command -> {
+            try {
+                async.start(command);
+            } catch (IllegalStateException e) {
+                // the request has already completed, the listener has cleaned up
+                LOG.trace("Stream already completed", e);
+            }
+        });
+        if (closed) {
+            // we have raced with close(), make sure the wait does not linger
+            future.cancel(false);
+        }
+    }
+
+    private void writeChanges(ServiceStatusSummary prev, ServiceStatusSummary next) throws IOException {
+        var version = next.getVersion();
+        var before = new HashMap<String, ServiceDescriptor>();
+        for (var descriptor : prev.getStatusSummary()) {
+            before.put(descriptor.getModuleServiceName(), descriptor);
+        }
+        for (var descriptor : next.getStatusSummary()) {
+            var old = before.remove(descriptor.getModuleServiceName());
+            if (old == null || old.getServiceState() != descriptor.getServiceState()) {
+                writeTransition(version, old, descriptor);
+            }
+        }
+        for (var removed : before.values()) {
+            writeTransition(version, removed, null);
+        }
+        if (prev.isOperational() != next.isOperational()) {
+            writeEvent("operational", version, "{\"isOperational\":" + next.isOperational() + ",\"systemReadyState\":\""
+                + next.getSystemReadyState() + "\"}");
+        }
+        out.flush();
+    }
+
+    private void writeTransition(long version, @Nullable ServiceDescriptor from, @Nullable ServiceDescriptor to)
+            throws IOException {
+        var descriptor = to != null ? to : requireNonNull(from);
+        var json = new StringWriter();
+        try (var writer = new JsonWriter(json)) {
+            writer.beginObject()
+                .name("serviceName").value(descriptor.getModuleServiceName())
+                .name("from").value(from != null ? from.getServiceState().name() : null)
+                .name("to").value(to != null ? to.getServiceState().name() : null)
+                .name("statusDesc").value(descriptor.getStatusDesc())
+                .name("version").value(version)
+                .endObject();
+        }
+        writeEvent("transition", version, json.toString());
+    }
+
+    private void writeEvent(String name, long version, String data) throws IOException {
+        var event = "event: " + name + "\nid: " + version + "\ndata: " + data + "\n\n";
+        out.write(event.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void close() {
+        if (!closed) {
+            stop();
+            try {
+                async.complete();
+            } catch (IllegalStateException e) {
+                LOG.trace("Stream already completed", e);
+            }
+        }
+    }
+
+    private void stop() {
+        closed = true;
+        var local = pending;
+        if (local != null) {
+            local.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.errorprone.annotations.Var;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders the <a href="https://github.com/OpenObservability/OpenMetrics/blob/main/specification/OpenMetrics.md">
+ * OpenMetrics</a> text format. Each instance renders a single exposition straight into a {@link Writer}, such as a
+ * servlet response's, without building it up in memory first, and is not thread-safe.
+ */
+// package-local not public (for the time being)
+final class OpenMetricsWriter {
+    private final Writer out;
+    // scratch space for formatting numbers, long enough for Long.MIN_VALUE
+    private final char[] digits = new char[20];
+
+    OpenMetricsWriter(Writer out) {
+        this.out = requireNonNull(out);
+    }
+
+    OpenMetricsWriter family(String name, String type, String help) throws IOException {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        return this;
+    }
+
+    /**
+     * Start a sample, which needs to be finished by {@link #value(long)} or {@link #seconds(long)}.
+     *
+     * @param name sample name
+     * @return this writer
+     * @throws IOException if an I/O error occurs
+     */
+    OpenMetricsWriter sample(String name) throws IOException {
+        out.write(name);
+        return this;
+    }
+
+    /**
+     * Start a sample with a single label, which needs to be finished by {@link #value(long)} or
+     * {@link #seconds(long)}.
+     *
+     * @param name sample name
+     * @param label label name
+     * @param labelValue label value
+     * @return this writer
+     * @throws IOException if an I/O error occurs
+     */
+    OpenMetricsWriter sample(String name, String label, String labelValue) throws IOException {
+        out.append(name).append('{');
+        appendLabel(label, labelValue);
+        out.write('}');
+        return this;
+    }
+
+    /**
+     * Start a sample with two labels, which needs to be finished by {@link #value(long)} or {@link #seconds(long)}.
+     *
+     * @param name sample name
+     * @param label first label name
+     * @param labelValue first label value
+     * @param label2 second label name
+     * @param labelValue2 second label value
+     * @return this writer
+     * @throws IOException if an I/O error occurs
+     */
+    OpenMetricsWriter sample(String name, String label, String labelValue, String label2, String labelValue2)
+            throws IOException {
+        out.append(name).append('{');
+        appendLabel(label, labelValue);
+        out.write(',');
+        appendLabel(label2, labelValue2);
+        out.write('}');
+        return this;
+    }
+
+    OpenMetricsWriter value(long value) throws IOException {
+        out.write(' ');
+        appendLong(value);
+        out.write('\n');
+        return this;
+    }
+
+    OpenMetricsWriter value(boolean value) throws IOException {
+        return value(value ? 1 : 0);
+    }
+
+    /**
+     * Finish a sample with a value in seconds, given in milliseconds, without going through floating point.
+     *
+     * @param millis value in milliseconds
+     * @return this writer
+     * @throws IOException if an I/O error occurs
+     */
+    OpenMetricsWriter seconds(long millis) throws IOException {
+        if (millis < 0) {
+            out.write(" -");
+        } else {
+            out.write(' ');
+        }
+        var abs = Math.abs(millis);
+        var fraction = abs % 1000;
+        appendLong(abs / 1000);
+        out.write('.');
+        if (fraction < 100) {
+            out.write('0');
+            if (fraction < 10) {
+                out.write('0');
+            }
+        }
+        appendLong(fraction);
+        out.write('\n');
+        return this;
+    }
+
+    /**
+     * Terminate the exposition.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void eof() throws IOException {
+        out.write("# EOF\n");
+    }
+
+    private void appendLabel(String label, String labelValue) throws IOException {
+        out.append(label).append("=\"");
+        for (int i = 0; i < labelValue.length(); i++) {
+            var ch = labelValue.charAt(i);
+            switch (ch) {
+                case '\\' -> out.write("\\\\");
+                case '"' -> out.write("\\\"");
+                case '\n' -> out.write("\\n");
+                default -> out.write(ch);
+            }
+        }
+        out.write('"');
+    }
+
+    private void appendLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            out.write(Long.toString(value));
+            return;
+        }
+
+        @Var var remaining = Math.abs(value);
+        @Var var pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            digits[--pos] = '-';
+        }
+        out.write(digits, pos, digits.length - pos);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Constant responses to liveness and readiness probes.
+ */
+// package-local not public (for the time being)
+final class ProbeResponse {
+    private static final byte[] OK = "OK\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NOT_OK = "NOT OK\n".getBytes(StandardCharsets.US_ASCII);
+
+    private ProbeResponse() {
+        // Hidden on purpose
+    }
+
+    static void write(HttpServletResponse response, boolean ok) throws IOException {
+        final byte[] body;
+        if (ok) {
+            body = OK;
+        } else {
+            body = NOT_OK;
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        // probes must always see the current state
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentType("text/plain");
+        response.setCharacterEncoding("us-ascii");
+        response.setContentLength(body.length);
+        try (var out = response.getOutputStream()) {
+            out.write(body);
+        }
+    }
+}
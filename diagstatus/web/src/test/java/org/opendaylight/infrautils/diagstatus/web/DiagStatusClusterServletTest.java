@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor.Behaviour;
+import org.opendaylight.infrautils.testutils.web.TestWebServer;
+
+/**
+ * Test for {@link DiagStatusClusterServlet} and {@link ClusterStatusAggregator}, with peers running as local
+ * {@link TestWebServer}s.
+ */
+public class DiagStatusClusterServletTest {
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @After
+    public void afterTest() throws Exception {
+        for (var resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    public void testClusterStatus() throws Exception {
+        var local = newService();
+        var peer1 = newPeer(newService());
+        var peer2Service = newService();
+        var peer2 = newPeer(peer2Service);
+
+        try (var aggregator = new ClusterStatusAggregator(local, List.of(peer1, peer2), Duration.ofSeconds(5),
+                Duration.ZERO)) {
+            var status = aggregator.getClusterStatus();
+            assertTrue(status.isOperational());
+            assertEquals(List.of(ClusterStatusAggregator.LOCAL_NODE, peer1.toString(), peer2.toString()),
+                status.nodes().stream().map(ClusterStatusAggregator.NodeStatus::node).toList());
+
+            // a non-operational peer still provides its summary
+            var reg = peer2Service.register("broken");
+            reg.report(new ServiceDescriptor("broken", ServiceState.ERROR, "oops"));
+            status = aggregator.getClusterStatus();
+            assertFalse(status.isOperational());
+            var node = status.nodes().get(2);
+            assertNull(node.error());
+            assertEquals(ServiceState.ERROR,
+                node.summary().getStatusSummary().iterator().next().getServiceState());
+        }
+    }
+
+    @Test
+    public void testWithoutTimeout() throws Exception {
+        var peer = newPeer(newService());
+
+        try (var aggregator = new ClusterStatusAggregator(newService(), List.of(peer), Duration.ZERO,
+                Duration.ZERO)) {
+            var status = aggregator.getClusterStatus();
+            assertTrue(status.isOperational());
+            assertNull(status.nodes().get(1).error());
+        }
+    }
+
+    @Test
+    public void testUnreachablePeers() throws Exception {
+        var slow = new TestWebServer();
+        resources.add(slow);
+        slow.registerServlet(new HttpServlet() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                Uninterruptibles.sleepUninterruptibly(2, TimeUnit.SECONDS);
+            }
+        }, "/*");
+        var slowPeer = URI.create(slow.getTestContextURL());
+        var deadPeer = URI.create("http://localhost:1/diagstatus");
+        var peer = newPeer(newService());
+
+        try (var aggregator = new ClusterStatusAggregator(newService(), List.of(slowPeer, deadPeer, peer),
+                Duration.ofMillis(300), Duration.ofMinutes(1))) {
+            var start = System.nanoTime();
+            var status = aggregator.getClusterStatus();
+            // peers are queried concurrently, so the slow one is the only one we wait for
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+            assertFalse(status.isOperational());
+            assertEquals("No response within PT0.3S", status.nodes().get(1).error());
+            assertNotNull(status.nodes().get(2).error());
+            assertTrue(status.nodes().get(3).isOperational());
+
+            // cached
+            assertSame(status, aggregator.getClusterStatus());
+        }
+    }
+
+    @Test
+    public void testMalformedPeers() throws Exception {
+        var empty = newStaticPeer("");
+        var nullJson = newStaticPeer("null");
+        var badTimestamp = newStaticPeer("{\"timeStamp\":\"yesterday\"}");
+        var garbage = newStaticPeer("{");
+
+        try (var aggregator = new ClusterStatusAggregator(newService(), List.of(empty, nullJson, badTimestamp, garbage),
+                Duration.ofSeconds(5), Duration.ZERO)) {
+            // none of them fails the aggregation
+            var status = aggregator.getClusterStatus();
+            assertFalse(status.isOperational());
+            assertEquals("Empty response", status.nodes().get(1).error());
+            assertEquals("Empty response", status.nodes().get(2).error());
+            assertTrue(status.nodes().get(3).error().startsWith("Invalid response: "));
+            assertTrue(status.nodes().get(4).error().startsWith("Invalid response: "));
+        }
+    }
+
+    @Test
+    public void testServlet() throws Exception {
+        var server = new TestWebServer();
+        resources.add(server);
+        var servlet = new DiagStatusClusterServlet(newService(), List.of(newPeer(newService())),
+            Duration.ofSeconds(5), Duration.ZERO);
+        server.registerServlet(servlet, "/*");
+
+        var conn = URI.create(server.getTestContextURL()).toURL().openConnection();
+        var body = new String(conn.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(body, body.startsWith(
+            "{\"isOperational\":true,\"nodes\":[{\"node\":\"local\",\"isOperational\":true,\"summary\":{"));
+    }
+
+    private URI newStaticPeer(String body) throws ServletException {
+        var server = new TestWebServer();
+        resources.add(server);
+        server.registerServlet(new HttpServlet() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("application/json");
+                resp.getWriter().write(body);
+            }
+        }, "/*");
+        return URI.create(server.getTestContextURL());
+    }
+
+    private DiagStatusServiceImpl newService() {
+        var service = new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of());
+        resources.add(service);
+        return service;
+    }
+
+    private URI newPeer(DiagStatusServiceImpl service) throws ServletException {
+        var server = new TestWebServer();
+        resources.add(server);
+        server.registerServlet(new DiagStatusServlet(service), "/diagstatus");
+        return URI.create(server.getTestContextURL() + "diagstatus");
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.infrautils.ready.SystemState.ACTIVE;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceRegistration;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
+import org.opendaylight.infrautils.testutils.web.TestWebServer;
+
+/**
+ * Test for {@link DiagStatusEventsServlet}.
+ */
+public class DiagStatusEventsServletTest {
+    private final TestDiagStatusService testDiagStatusService = new TestDiagStatusService();
+    private TestWebServer webServer;
+
+    @Before
+    public void beforeTest() throws ServletException {
+        webServer = new TestWebServer();
+        webServer.registerServlet(new DiagStatusEventsServlet(testDiagStatusService), "/*");
+    }
+
+    @After
+    public void afterTest() throws ServletException {
+        webServer.close();
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        var conn = (HttpURLConnection) new URL(webServer.getTestContextURL()).openConnection();
+        assertEquals(200, conn.getResponseCode());
+        assertTrue(conn.getContentType().startsWith("text/event-stream"));
+
+        try (var reader = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
+            var summary = readEvent(reader);
+            assertEquals("event: summary", summary.get(0));
+            assertEquals("id: 1", summary.get(1));
+            assertTrue(summary.get(2).startsWith("data: {"));
+
+            testDiagStatusService.waiters.poll(5, TimeUnit.SECONDS).set(new ServiceStatusSummary(false, ACTIVE, "",
+                Set.of(new ServiceDescriptor("svc", ServiceState.ERROR, "broken")), 2));
+            var transition = readEvent(reader);
+            assertEquals(List.of("event: transition", "id: 2",
+                "data: {\"serviceName\":\"svc\",\"from\":null,\"to\":\"ERROR\",\"statusDesc\":\"broken\","
+                    + "\"version\":2}"), transition);
+            var operational = readEvent(reader);
+            assertEquals(List.of("event: operational", "id: 2",
+                "data: {\"isOperational\":false,\"systemReadyState\":\"ACTIVE\"}"), operational);
+
+            // unchanged states produce no events, the stream just waits for the next version
+            testDiagStatusService.waiters.poll(5, TimeUnit.SECONDS).set(new ServiceStatusSummary(false, ACTIVE, "",
+                Set.of(new ServiceDescriptor("svc", ServiceState.ERROR, "still broken")), 3));
+            testDiagStatusService.waiters.poll(5, TimeUnit.SECONDS).set(new ServiceStatusSummary(true, ACTIVE, "",
+                Set.of(), 4));
+            assertEquals(List.of("event: transition", "id: 4",
+                "data: {\"serviceName\":\"svc\",\"from\":\"ERROR\",\"to\":null,\"statusDesc\":\"still broken\","
+                    + "\"version\":4}"), readEvent(reader));
+            assertEquals("event: operational", readEvent(reader).get(0));
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private static List<String> readEvent(BufferedReader reader) throws IOException {
+        var lines = new ArrayList<String>();
+        while (true) {
+            var line = reader.readLine();
+            if (line == null || line.isEmpty()) {
+                return lines;
+            }
+            lines.add(line);
+        }
+    }
+
+    private static final class TestDiagStatusService implements DiagStatusService {
+        final LinkedBlockingQueue<SettableFuture<ServiceStatusSummary>> waiters = new LinkedBlockingQueue<>();
+
+        @Override
+        public ServiceStatusSummary getServiceStatusSummary() {
+            return new ServiceStatusSummary(true, ACTIVE, "", Set.of(), 1);
+        }
+
+        @Override
+        public ListenableFuture<ServiceStatusSummary> awaitServiceStatusSummary(long sinceVersion) {
+            var future = SettableFuture.<ServiceStatusSummary>create();
+            waiters.add(future);
+            return future;
+        }
+
+        @Override
+        public ServiceRegistration register(String serviceIdentifier) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServiceDescriptor getServiceDescriptor(String serviceIdentifier) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<ServiceDescriptor> getAllServiceDescriptors() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
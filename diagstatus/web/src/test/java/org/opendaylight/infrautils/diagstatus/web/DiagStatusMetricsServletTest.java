@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.ServletException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor;
+import org.opendaylight.infrautils.ready.testutils.TestSystemReadyMonitor.Behaviour;
+import org.opendaylight.infrautils.testutils.web.TestWebClient;
+import org.opendaylight.infrautils.testutils.web.TestWebClient.Method;
+import org.opendaylight.infrautils.testutils.web.TestWebServer;
+
+/**
+ * Test for {@link DiagStatusMetricsServlet}.
+ */
+public class DiagStatusMetricsServletTest {
+    private final DiagStatusServiceImpl diagStatusService =
+        new DiagStatusServiceImpl(new TestSystemReadyMonitor(Behaviour.IMMEDIATE), List.of());
+    private TestWebServer webServer;
+    private TestWebClient webClient;
+
+    @Before
+    public void beforeTest() throws ServletException {
+        webServer = new TestWebServer();
+        webClient = new TestWebClient(webServer);
+        webServer.registerServlet(new DiagStatusMetricsServlet(diagStatusService), "/*");
+    }
+
+    @After
+    public void afterTest() throws ServletException {
+        webServer.close();
+        diagStatusService.close();
+    }
+
+    @Test
+    public void testMetrics() throws IOException {
+        var reg = diagStatusService.register("svc\"1");
+        reg.report(new ServiceDescriptor("svc\"1", ServiceState.ERROR, "broken"));
+
+        var response = webClient.request(Method.GET, "");
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getHeader("Content-Type").startsWith("application/openmetrics-text"));
+        var lines = response.getBody().lines().toList();
+        assertTrue(lines.contains("diagstatus_operational 0"));
+        assertTrue(lines.contains("diagstatus_system_state{diagstatus_system_state=\"ACTIVE\"} 1"));
+        assertTrue(lines.contains("diagstatus_system_state{diagstatus_system_state=\"BOOTING\"} 0"));
+        assertTrue(lines.contains(
+            "diagstatus_service_state{service=\"svc\\\"1\",diagstatus_service_state=\"ERROR\"} 1"));
+        assertTrue(lines.contains(
+            "diagstatus_service_state{service=\"svc\\\"1\",diagstatus_service_state=\"OPERATIONAL\"} 0"));
+        assertTrue(lines.contains("diagstatus_service_transitions_total{service=\"svc\\\"1\"} 2"));
+        assertTrue(lines.contains("diagstatus_service_flapping{service=\"svc\\\"1\"} 0"));
+        assertTrue(lines.stream().anyMatch(
+            line -> line.matches("diagstatus_service_report_age_seconds\\{service=\"svc\\\\\"1\"} \\d+\\.\\d{3}")));
+        assertEquals("# EOF", lines.get(lines.size() - 1));
+
+        // each scrape starts afresh
+        reg.report(new ServiceDescriptor("svc\"1", ServiceState.OPERATIONAL));
+        lines = webClient.request(Method.GET, "").getBody().lines().toList();
+        assertTrue(lines.contains("diagstatus_operational 1"));
+        assertEquals(1, lines.stream().filter("# EOF"::equals).count());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.infrautils.diagstatus.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.ServletException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusProvider;
+import org.opendaylight.infrautils.diagstatus.internal.DiagStatusServiceImpl;
+import org.opendaylight.infrautils.ready.SystemReadyMonitor;
+import org.opendaylight.infrautils.ready.SystemState;
+import org.opendaylight.infrautils.testutils.web.TestWebClient;
+import org.opendaylight.infrautils.testutils.web.TestWebClient.Method;
+import org.opendaylight.infrautils.testutils.web.TestWebServer;
+
+/**
+ * Test for {@link DiagStatusLiveServlet} and {@link DiagStatusReadyServlet}.
+ */
+public class DiagStatusProbeServletTest {
+    private final SystemReadyMonitor systemReadyMonitor = mock(SystemReadyMonitor.class);
+    private final ServiceStatusProvider provider = () -> new ServiceDescriptor("provided", ServiceState.OPERATIONAL);
+    private DiagStatusServiceImpl diagStatusService;
+    private TestWebServer webServer;
+    private TestWebClient webClient;
+
+    @Before
+    public void beforeTest() throws ServletException {
+        when(systemReadyMonitor.getSystemState()).thenReturn(SystemState.BOOTING);
+        when(systemReadyMonitor.getFailureCause()).thenReturn("");
+        diagStatusService = new DiagStatusServiceImpl(systemReadyMonitor, List.of(provider));
+        webServer = new TestWebServer();
+        webClient = new TestWebClient(webServer);
+        webServer.registerServlet(new DiagStatusLiveServlet(systemReadyMonitor), "/live");
+        webServer.registerServlet(new DiagStatusReadyServlet(diagStatusService), "/ready");
+    }
+
+    @After
+    public void afterTest() throws ServletException {
+        webServer.close();
+        diagStatusService.close();
+    }
+
+    @Test
+    public void testLive() throws IOException {
+        var response = webClient.request(Method.GET, "live");
+        assertEquals(200, response.getStatus());
+        assertEquals("OK\n", response.getBody());
+        assertEquals("no-store", response.getHeader("Cache-Control"));
+
+        when(systemReadyMonitor.getSystemState()).thenReturn(SystemState.ACTIVE);
+        assertEquals(200, webClient.request(Method.GET, "live").getStatus());
+
+        when(systemReadyMonitor.getSystemState()).thenReturn(SystemState.FAILURE);
+        response = webClient.request(Method.GET, "live");
+        assertEquals(503, response.getStatus());
+        assertEquals("7", response.getHeader("Content-Length"));
+    }
+
+    @Test
+    public void testReady() throws IOException {
+        // booting
+        assertEquals(503, webClient.request(Method.GET, "ready").getStatus());
+
+        when(systemReadyMonitor.getSystemState()).thenReturn(SystemState.ACTIVE);
+        var response = webClient.request(Method.GET, "ready");
+        assertEquals(200, response.getStatus());
+        assertEquals("OK\n", response.getBody());
+        assertEquals(200, webClient.request(Method.HEAD, "ready").getStatus());
+
+        var reg = diagStatusService.register("svc");
+        assertEquals(503, webClient.request(Method.GET, "ready").getStatus());
+        reg.report(new ServiceDescriptor("svc", ServiceState.OPERATIONAL));
+        assertEquals(200, webClient.request(Method.GET, "ready").getStatus());
+    }
+}
@@ -8,17 +8,33 @@
 package org.opendaylight.infrautils.diagstatus.web;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.opendaylight.infrautils.ready.SystemState.ACTIVE;
 import static org.opendaylight.infrautils.ready.SystemState.BOOTING;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.ServletException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.infrautils.diagstatus.DiagStatusService;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptor;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorPage;
+import org.opendaylight.infrautils.diagstatus.ServiceDescriptorQuery;
+import org.opendaylight.infrautils.diagstatus.ServiceState;
+import org.opendaylight.infrautils.diagstatus.ServiceStatusHistory;
 import org.opendaylight.infrautils.diagstatus.ServiceStatusSummary;
 import org.opendaylight.infrautils.testutils.mockito.MoreAnswers;
 import org.opendaylight.infrautils.testutils.web.TestWebClient;
@@ -72,6 +88,116 @@ public class DiagStatusServletTest {
         assertEquals(503, getDiagStatusResponseCode(Method.HEAD));
     }
 
+    @Test
+    public void testConditionalGet() throws IOException {
+        testDiagStatusService.isOperational = true;
+        testDiagStatusService.summary = new ServiceStatusSummary(true, ACTIVE, "", Set.of(), 42);
+        var response = webClient.request(Method.GET, "");
+        assertEquals(200, response.getStatus());
+        var etag = response.getHeader("ETag");
+        assertNotNull(etag);
+
+        assertEquals(304, webClient.request(Method.GET, "", Map.of("If-None-Match", etag)).getStatus());
+        assertEquals(304, webClient.request(Method.GET, "", Map.of("If-None-Match", "\"x\", W/" + etag)).getStatus());
+        assertEquals(200, webClient.request(Method.GET, "", Map.of("If-None-Match", "\"x\"")).getStatus());
+    }
+
+    @Test
+    public void testConditionalGetWhenNok() throws IOException {
+        testDiagStatusService.isOperational = false;
+        testDiagStatusService.summary = new ServiceStatusSummary(false, BOOTING, "", Set.of(), 42);
+        var response = webClient.request(Method.GET, "", Map.of("If-None-Match", "*"));
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    public void testPretty() throws IOException {
+        testDiagStatusService.isOperational = true;
+        var compact = webClient.request(Method.GET, "").getBody().strip();
+        assertFalse(compact.contains("\n"));
+        var pretty = webClient.request(Method.GET, "?pretty").getBody().strip();
+        assertTrue(pretty.contains("\n  \"isOperational\": true"));
+    }
+
+    @Test
+    public void testLongPoll() throws IOException {
+        testDiagStatusService.isOperational = true;
+        testDiagStatusService.summary = new ServiceStatusSummary(true, ACTIVE, "", Set.of(), 42);
+        var next = SettableFuture.<ServiceStatusSummary>create();
+        testDiagStatusService.next = next;
+
+        var response = webClient.request(Method.GET, "");
+        assertEquals("42", response.getHeader("X-DiagStatus-Version"));
+
+        // the request is parked until the next version shows up
+        var completer = new Thread(() -> {
+            Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS);
+            next.set(new ServiceStatusSummary(true, ACTIVE, "", Set.of(), 43));
+        });
+        completer.start();
+        response = webClient.request(Method.GET, "?sinceVersion=42");
+        assertEquals(200, response.getStatus());
+        assertEquals("43", response.getHeader("X-DiagStatus-Version"));
+    }
+
+    @Test
+    public void testLongPollInvalid() throws IOException {
+        testDiagStatusService.isOperational = true;
+        assertEquals(400, webClient.request(Method.GET, "?sinceVersion=foo").getStatus());
+        // the service does not support waiting, hence answers right away
+        assertEquals(200, webClient.request(Method.GET, "?sinceVersion=42").getStatus());
+    }
+
+    @Test
+    public void testHistory() throws IOException {
+        // the service does not keep history
+        var empty = webClient.request(Method.GET, "?history=true");
+        assertEquals(200, empty.getStatus());
+        assertEquals("[]", empty.getBody().strip());
+
+        testDiagStatusService.histories = List.of(new ServiceStatusHistory("svc", true, 7, List.of(
+            new ServiceStatusHistory.Transition(Instant.EPOCH, ServiceState.OPERATIONAL, ServiceState.ERROR, "blip"))));
+        var response = webClient.request(Method.GET, "?history=true");
+        assertEquals(200, response.getStatus());
+        assertEquals("[{\"serviceName\":\"svc\",\"flapping\":true,\"transitionCount\":7,\"transitions\":[{"
+            + "\"timestamp\":\"1970-01-01T00:00:00Z\",\"from\":\"OPERATIONAL\",\"to\":\"ERROR\","
+            + "\"statusDesc\":\"blip\"}]}]",
+            response.getBody().strip());
+    }
+
+    @Test
+    public void testQuery() throws IOException {
+        // the service does not support queries, hence filters all services
+        testDiagStatusService.isOperational = false;
+        testDiagStatusService.summary = new ServiceStatusSummary(false, ACTIVE, "", Set.of(
+            new ServiceDescriptor("b", ServiceState.ERROR, "broken"),
+            new ServiceDescriptor("a", ServiceState.ERROR, "broken"),
+            new ServiceDescriptor("c", ServiceState.OPERATIONAL, "fine")), 42);
+        var filtered = webClient.request(Method.GET, "?state=ERROR&offset=1&fields=serviceName");
+        assertEquals(200, filtered.getStatus());
+        assertEquals("{\"offset\":1,\"total\":2,\"serviceDescriptors\":[{\"serviceName\":\"b\"}]}",
+            filtered.getBody().strip());
+
+        testDiagStatusService.page = new ServiceDescriptorPage(1, 5, List.of(
+            new ServiceDescriptor("svc", ServiceState.ERROR, "broken")));
+        var response = webClient.request(Method.GET,
+            "?state=ERROR,SUSPECTED&prefix=s&label=core&offset=1&limit=1&fields=serviceName,effectiveStatus");
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"offset\":1,\"total\":5,\"serviceDescriptors\":[{\"serviceName\":\"svc\","
+            + "\"effectiveStatus\":\"ERROR\"}]}", response.getBody().strip());
+        var query = testDiagStatusService.query;
+        assertEquals(Set.of(ServiceState.ERROR, ServiceState.SUSPECTED), query.getStates());
+        assertEquals("s", query.getNamePrefix());
+        assertEquals("core", query.getLabel());
+        assertEquals(1, query.getOffset());
+        assertEquals(1, query.getLimit());
+
+        assertEquals(400, webClient.request(Method.GET, "?state=BROKEN").getStatus());
+        assertEquals(400, webClient.request(Method.GET, "?limit=0").getStatus());
+        assertEquals(400, webClient.request(Method.GET, "?offset=x").getStatus());
+        assertEquals(400, webClient.request(Method.GET, "?fields=stackTrace").getStatus());
+    }
+
     private int getDiagStatusResponseCode(Method httpMethod) throws IOException {
         return webClient.request(httpMethod, "").getStatus();
     }
@@ -79,10 +205,40 @@ public class DiagStatusServletTest {
     private abstract static class TestDiagStatusService implements DiagStatusService {
 
         Boolean isOperational;
+        ServiceStatusSummary summary;
+        ListenableFuture<ServiceStatusSummary> next;
+        List<ServiceStatusHistory> histories;
+        ServiceDescriptorPage page;
+        ServiceDescriptorQuery query;
 
         @Override
         public ServiceStatusSummary getServiceStatusSummary() {
-            return new ServiceStatusSummary(isOperational, isOperational ? ACTIVE : BOOTING, "", Set.of());
+            return summary != null ? summary
+                : new ServiceStatusSummary(isOperational, isOperational ? ACTIVE : BOOTING, "", Set.of());
+        }
+
+        @Override
+        public Collection<ServiceDescriptor> getAllServiceDescriptors() {
+            return getServiceStatusSummary().getStatusSummary();
+        }
+
+        @Override
+        public Collection<ServiceStatusHistory> getAllServiceStatusHistories() {
+            return histories != null ? histories : DiagStatusService.super.getAllServiceStatusHistories();
+        }
+
+        @Override
+        public ServiceDescriptorPage queryServiceDescriptors(ServiceDescriptorQuery descriptorQuery) {
+            if (page == null) {
+                return DiagStatusService.super.queryServiceDescriptors(descriptorQuery);
+            }
+            query = descriptorQuery;
+            return page;
+        }
+
+        @Override
+        public ListenableFuture<ServiceStatusSummary> awaitServiceStatusSummary(long sinceVersion) {
+            return next != null ? next : DiagStatusService.super.awaitServiceStatusSummary(sinceVersion);
         }
     }
 }
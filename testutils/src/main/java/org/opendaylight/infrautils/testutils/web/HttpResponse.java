@@ -7,7 +7,10 @@
  */
 package org.opendaylight.infrautils.testutils.web;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.Immutable;
+import java.util.Locale;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * HTTP Response.
@@ -21,11 +24,19 @@ public class HttpResponse {
 
     private final int status;
     private final String body;
+    // keyed by lower-case header name
+    private final ImmutableMap<String, String> headers;
 
     // package-local
     HttpResponse(int status, String body) {
+        this(status, body, ImmutableMap.of());
+    }
+
+    // package-local
+    HttpResponse(int status, String body, ImmutableMap<String, String> headers) {
         this.status = status;
         this.body = body;
+        this.headers = headers;
     }
 
     public int getStatus() {
@@ -35,4 +46,14 @@ public class HttpResponse {
     public String getBody() {
         return body;
     }
+
+    /**
+     * Return the (first) value of a response header.
+     *
+     * @param name header name, case-insensitive
+     * @return header value, or {@code null} if the header is not present
+     */
+    public @Nullable String getHeader(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
 }
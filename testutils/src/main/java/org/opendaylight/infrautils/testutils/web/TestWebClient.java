@@ -7,6 +7,7 @@
  */
 package org.opendaylight.infrautils.testutils.web;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharStreams;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -15,6 +16,8 @@ import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * HTTP Client.
@@ -23,8 +26,6 @@ import java.nio.charset.StandardCharsets;
  */
 public class TestWebClient {
 
-    // TODO later unify this with org.opendaylight.infrautils.diagstatus.shell.HttpClient
-
     public enum Method {
         GET, POST, HEAD, OPTIONS, PUT, DELETE, TRACE
     }
@@ -40,9 +41,15 @@ public class TestWebClient {
     }
 
     public HttpResponse request(Method httpMethod, String path) throws IOException {
+        return request(httpMethod, path, Map.of());
+    }
+
+    public HttpResponse request(Method httpMethod, String path, Map<String, String> requestHeaders)
+            throws IOException {
         URL url = new URL(baseURL + (path.startsWith("/") ? path.substring(1) : path));
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
         conn.setRequestMethod(httpMethod.name());
+        requestHeaders.forEach(conn::setRequestProperty);
         int status = conn.getResponseCode();
 
         String body;
@@ -62,6 +69,13 @@ public class TestWebClient {
             body = "NO BODY IF STATUS != 200";
         }
 
-        return new HttpResponse(status, body);
+        var headers = ImmutableMap.<String, String>builder();
+        conn.getHeaderFields().forEach((name, values) -> {
+            // the status line is reported with a null name
+            if (name != null && !values.isEmpty()) {
+                headers.put(name.toLowerCase(Locale.ROOT), values.get(0));
+            }
+        });
+        return new HttpResponse(status, body, headers.buildKeepingLast());
     }
 }
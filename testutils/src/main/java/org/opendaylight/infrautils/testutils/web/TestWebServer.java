@@ -86,6 +86,7 @@ public final class TestWebServer implements AutoCloseable {
     public void registerServlet(Servlet servlet, String urlPattern) throws ServletException {
         ServletHolder servletHolder = new ServletHolder(servlet);
         servletHolder.setInitOrder(1); // AKA <load-on-startup> 1
+        servletHolder.setAsyncSupported(true);
         context.addServlet(servletHolder, urlPattern);
         start(context);
     }